@@ -0,0 +1,73 @@
+package org.example.expert.aop;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.After;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.expert.aop.annotation.AuditLog;
+import org.example.expert.aop.support.AuditLogTemplate;
+import org.example.expert.log.service.LogService;
+import org.example.expert.security.CustomUserDetails;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class AuditLogAspect {
+
+    private final LogService logService;
+
+    // 메서드별로 해석해 둔 메시지 템플릿 (선택자 -> MethodHandle)
+    private final Map<Method, AuditLogTemplate> templates = new ConcurrentHashMap<>();
+
+    // @AuditLog 어노테이션이 붙은 메서드 실행 후 호출되는 메서드
+    @After("@annotation(auditLog)")
+    public void logAfter(JoinPoint joinPoint, AuditLog auditLog) {
+        try {
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            AuditLogTemplate template = templates.computeIfAbsent(method, key -> AuditLogTemplate.compile(key, auditLog));
+
+            String message = template.render(joinPoint.getArgs(), getCurrentUserId(), getCurrentRequestUrl());
+
+            // 로그를 콘솔에 출력
+            log.info("[Audit] {}", message);
+
+            // DB 저장 대기열에 넣기 (백그라운드에서 배치로 저장, 여기서는 블로킹하지 않음)
+            logService.saveLog(template.getAction(), message);
+
+        } catch (Exception e) {
+            // 로그 기록 중 예외 발생 시 에러 로그 출력, 서비스 흐름에는 영향 없음
+            log.error("감사 로그 처리 중 오류 발생 - Action: {}", auditLog.action(), e);
+        }
+    }
+
+    // 인증 정보가 있고 CustomUserDetails 타입이면 사용자 ID, 아니면 "NULL"
+    private String getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return String.valueOf(userDetails.getId());
+        }
+        return "NULL";
+    }
+
+    // HTTP 요청 밖(스케줄러, 비동기 작업 등)에서 호출되면 "-"
+    private String getCurrentRequestUrl() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return servletAttributes.getRequest().getRequestURI();
+        }
+        return "-";
+    }
+}
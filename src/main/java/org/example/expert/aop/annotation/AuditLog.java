@@ -0,0 +1,19 @@
+package org.example.expert.aop.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 메서드 실행 후 감사 로그(log 테이블)를 남긴다.
+ * message 에는 {action}, {userId}, {url}, {method} 와 인자 선택자를 쓸 수 있다.
+ * 인자 선택자는 {파라미터명.getter경로} 또는 {인자인덱스.getter경로} (예: {managerSaveRequest.managerUserId}, {1})
+ * 선택자는 메서드마다 처음 한 번만 MethodHandle 로 해석해 두므로 호출마다 리플렉션 조회를 하지 않는다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface AuditLog {
+
+    String action();
+
+    String message() default "{action} - UserID: {userId}, URL: {url}, Method: {method}";
+}
@@ -1,9 +0,0 @@
-package org.example.expert.aop.annotation;
-
-import java.lang.annotation.*;
-
-@Target(ElementType.METHOD)
-@Retention(RetentionPolicy.RUNTIME)
-@Documented
-public @interface ManagerRegisterLog {
-}
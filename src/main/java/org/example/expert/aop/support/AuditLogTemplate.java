@@ -0,0 +1,204 @@
+package org.example.expert.aop.support;
+
+import lombok.Getter;
+import org.example.expert.aop.annotation.AuditLog;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @AuditLog 메시지 템플릿을 메서드별로 한 번 해석해 둔 것
+ * 고정 문자열 조각과 자리 표시자로 미리 나눠 두고, 인자 선택자는 getter MethodHandle 체인으로 바꿔 둔다.
+ * {action}, {method} 는 해석 시점에 고정 문자열로 합친다. 렌더링은 StringBuilder 에 이어 붙이기만 한다. (String.format 파싱 없음)
+ */
+public final class AuditLogTemplate {
+
+    private static final int MAX_VALUE_LENGTH = 200;
+    // 자리 표시자 값 하나의 예상 길이 - StringBuilder 초기 용량 계산용
+    private static final int EXPECTED_VALUE_LENGTH = 16;
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    @Getter
+    private final String action;
+    // literals.length == slots.length + 1
+    private final String[] literals;
+    private final Slot[] slots;
+    private final int initialCapacity;
+
+    private AuditLogTemplate(String action, String[] literals, Slot[] slots) {
+        this.action = action;
+        this.literals = literals;
+        this.slots = slots;
+        int literalLength = 0;
+        for (String literal : literals) {
+            literalLength += literal.length();
+        }
+        this.initialCapacity = literalLength + slots.length * EXPECTED_VALUE_LENGTH;
+    }
+
+    /**
+     * @throws IllegalStateException 템플릿 문법이 틀렸거나 선택자가 가리키는 파라미터/getter 가 없을 때
+     */
+    public static AuditLogTemplate compile(Method method, AuditLog auditLog) {
+        String template = auditLog.message();
+        List<String> literals = new ArrayList<>();
+        List<Slot> slots = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        int position = 0;
+        while (position < template.length()) {
+            int open = template.indexOf('{', position);
+            if (open < 0) {
+                literal.append(template, position, template.length());
+                break;
+            }
+            int close = template.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalStateException("닫히지 않은 자리 표시자 - " + describe(method) + ": " + template);
+            }
+            literal.append(template, position, open);
+            String placeholder = template.substring(open + 1, close).trim();
+            position = close + 1;
+
+            switch (placeholder) {
+                case "action" -> literal.append(auditLog.action());
+                case "method" -> literal.append(method.getName());
+                case "userId" -> {
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    slots.add(Slot.USER_ID);
+                }
+                case "url" -> {
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    slots.add(Slot.URL);
+                }
+                default -> {
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    slots.add(compileSelector(method, placeholder));
+                }
+            }
+        }
+        literals.add(literal.toString());
+
+        return new AuditLogTemplate(auditLog.action(), literals.toArray(String[]::new), slots.toArray(Slot[]::new));
+    }
+
+    public String render(Object[] args, String userId, String url) {
+        StringBuilder message = new StringBuilder(initialCapacity);
+        for (int i = 0; i < slots.length; i++) {
+            message.append(literals[i]);
+            Slot slot = slots[i];
+            if (slot == Slot.USER_ID) {
+                message.append(userId);
+            } else if (slot == Slot.URL) {
+                message.append(url);
+            } else {
+                appendValue(message, slot.extract(args));
+            }
+        }
+        return message.append(literals[slots.length]).toString();
+    }
+
+    private static void appendValue(StringBuilder message, Object value) {
+        String text = String.valueOf(value);
+        if (text.length() > MAX_VALUE_LENGTH) {
+            message.append(text, 0, MAX_VALUE_LENGTH).append("...");
+        } else {
+            message.append(text);
+        }
+    }
+
+    private static Slot compileSelector(Method method, String selector) {
+        String[] path = selector.split("\\.");
+        int argIndex = resolveArgIndex(method, path[0]);
+
+        Class<?> type = method.getParameterTypes()[argIndex];
+        MethodHandle[] getters = new MethodHandle[path.length - 1];
+        for (int i = 1; i < path.length; i++) {
+            Method getter = findGetter(method, type, path[i]);
+            try {
+                getters[i - 1] = LOOKUP.unreflect(getter).asType(GETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("getter 에 접근할 수 없습니다 - " + describe(method) + ": " + getter, e);
+            }
+            type = getter.getReturnType();
+        }
+        return new Slot(argIndex, getters);
+    }
+
+    private static int resolveArgIndex(Method method, String name) {
+        Parameter[] parameters = method.getParameters();
+        if (!name.isEmpty() && name.chars().allMatch(Character::isDigit)) {
+            int index = Integer.parseInt(name);
+            if (index < parameters.length) {
+                return index;
+            }
+        } else {
+            // 파라미터 이름은 -parameters 로 컴파일된 경우에만 남는다 (Spring Boot Gradle 플러그인 기본값)
+            for (int i = 0; i < parameters.length; i++) {
+                if (parameters[i].isNamePresent() && parameters[i].getName().equals(name)) {
+                    return i;
+                }
+            }
+        }
+        throw new IllegalStateException("선택자의 파라미터를 찾을 수 없습니다 - " + describe(method) + ": " + name);
+    }
+
+    private static Method findGetter(Method method, Class<?> type, String property) {
+        String suffix = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        for (String candidate : new String[]{"get" + suffix, "is" + suffix, property}) {
+            try {
+                Method getter = type.getMethod(candidate);
+                if (getter.getReturnType() != void.class) {
+                    return getter;
+                }
+            } catch (NoSuchMethodException ignored) {
+                // 다음 후보
+            }
+        }
+        throw new IllegalStateException(type.getName() + " 에 " + property + " getter 가 없습니다 - " + describe(method));
+    }
+
+    private static String describe(Method method) {
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+
+    private static final class Slot {
+
+        static final Slot USER_ID = new Slot(-1, null);
+        static final Slot URL = new Slot(-1, null);
+
+        private final int argIndex;
+        private final MethodHandle[] getters;
+
+        private Slot(int argIndex, MethodHandle[] getters) {
+            this.argIndex = argIndex;
+            this.getters = getters;
+        }
+
+        Object extract(Object[] args) {
+            Object value = args[argIndex];
+            try {
+                for (MethodHandle getter : getters) {
+                    if (value == null) {
+                        return null;
+                    }
+                    value = (Object) getter.invokeExact(value);
+                }
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.expert.cache.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.cache.dto.CacheRegionStatsResponse;
+import org.example.expert.cache.dto.PrincipalCacheStatsResponse;
+import org.example.expert.cache.service.CacheStatsService;
+import org.example.expert.querybudget.annotation.QueryBudget;
+import org.example.expert.security.PrincipalResolver;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class CacheAdminController {
+
+    private final CacheStatsService cacheStatsService;
+    private final PrincipalResolver principalResolver;
+
+    @GetMapping("/admin/cache/stats")
+    @QueryBudget(0)
+    public ResponseEntity<List<CacheRegionStatsResponse>> getCacheStats() {
+        return ResponseEntity.ok(cacheStatsService.getRegionStats());
+    }
+
+    /**
+     * JwtFilter 인증 주체 캐시 - 적중률과 평균 로드 시간(ms)
+     */
+    @GetMapping("/admin/cache/principal")
+    @QueryBudget(0)
+    public ResponseEntity<PrincipalCacheStatsResponse> getPrincipalCacheStats() {
+        return ResponseEntity.ok(principalResolver.getStats());
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.expert.cache.dto;
+
+import lombok.Getter;
+
+@Getter
+public class CacheRegionStatsResponse {
+
+    private final String region;
+    private final String type;
+    private final long hitCount;
+    private final long missCount;
+    private final long putCount;
+    private final long elementCount;
+
+    public CacheRegionStatsResponse(String region, String type, long hitCount, long missCount, long putCount, long elementCount) {
+        this.region = region;
+        this.type = type;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.putCount = putCount;
+        this.elementCount = elementCount;
+    }
+
+    public double getHitRatio() {
+        long total = hitCount + missCount;
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+}
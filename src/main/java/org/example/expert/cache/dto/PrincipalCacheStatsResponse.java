@@ -0,0 +1,33 @@
+package org.example.expert.cache.dto;
+
+import lombok.Getter;
+
+@Getter
+public class PrincipalCacheStatsResponse {
+
+    private final String mode;
+    private final long size;
+    private final long hitCount;
+    private final long missCount;
+    private final long loadCount;
+    private final long loadFailureCount;
+    private final double averageLoadMillis;
+    private final long evictionCount;
+
+    public PrincipalCacheStatsResponse(String mode, long size, long hitCount, long missCount, long loadCount,
+                                       long loadFailureCount, double averageLoadMillis, long evictionCount) {
+        this.mode = mode;
+        this.size = size;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadCount = loadCount;
+        this.loadFailureCount = loadFailureCount;
+        this.averageLoadMillis = averageLoadMillis;
+        this.evictionCount = evictionCount;
+    }
+
+    public double getHitRatio() {
+        long total = hitCount + missCount;
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.expert.cache.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.cache.dto.CacheRegionStatsResponse;
+import org.example.expert.config.HibernateCacheConfig;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 리전별 통계 (hibernate.generate_statistics 필요)
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheStatsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public List<CacheRegionStatsResponse> getRegionStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<CacheRegionStatsResponse> result = new ArrayList<>();
+        for (String region : HibernateCacheConfig.ENTITY_REGIONS) {
+            result.add(toResponse(region, "entity", statistics.getDomainDataRegionStatistics(region)));
+        }
+        for (String region : HibernateCacheConfig.QUERY_REGIONS) {
+            // 쿼리 리전 통계는 첫 캐시 쿼리 실행 전까지 null
+            result.add(toResponse(region, "query", statistics.getQueryRegionStatistics(region)));
+        }
+        return result;
+    }
+
+    private CacheRegionStatsResponse toResponse(String region, String type, CacheRegionStatistics statistics) {
+        if (statistics == null) {
+            return new CacheRegionStatsResponse(region, type, 0, 0, 0, 0);
+        }
+        return new CacheRegionStatsResponse(
+                region,
+                type,
+                statistics.getHitCount(),
+                statistics.getMissCount(),
+                statistics.getPutCount(),
+                statistics.getElementCountInMemory()
+        );
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.expert.cache.support;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Caffeine 의 Cache.get(key, loader) 는 ConcurrentHashMap.compute 안(synchronized 버킷 락)에서 loader 를 실행한다.
+ * loader 가 DB 조회처럼 블로킹이면 같은 버킷의 다른 키까지 기다리게 하고, 가상 스레드에서는 carrier 스레드를 고정(pinning)시킨다.
+ * 여기서는 락 안에서는 빈 future 만 등록하고 실제 조회는 락 밖에서 호출 스레드가 수행한다.
+ * 같은 키의 동시 요청은 그 future 를 기다리므로 조회는 여전히 한 번만 일어난다. (single-flight)
+ */
+public final class AsyncCacheLoader {
+
+    private AsyncCacheLoader() {
+    }
+
+    /**
+     * @param loader null 을 반환하면 캐시하지 않는다
+     */
+    public static <K, V> V get(AsyncCache<K, V> cache, K key, Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> created);
+
+        if (future == created) {
+            try {
+                created.complete(loader.apply(key));
+            } catch (Throwable e) {
+                created.completeExceptionally(e);
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.expert.client;
+
+/**
+ * 연속 실패 횟수 기반 서킷 브레이커
+ * CLOSED: 호출 허용 - 연속 실패가 failureThreshold 에 닿으면 OPEN
+ * OPEN: openDuration 동안 호출하지 않고 바로 실패 - 지나면 HALF_OPEN
+ * HALF_OPEN: 시험 호출 하나만 허용 - 성공하면 CLOSED, 실패하면 다시 OPEN
+ * 임계 구역에서 I/O 를 하지 않으므로 synchronized 로 충분하다.
+ */
+class WeatherCircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private long openCount;
+    private long rejectedCount;
+
+    WeatherCircuitBreaker(int failureThreshold, long openNanos) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = openNanos;
+    }
+
+    /**
+     * @return false 면 호출하지 않고 바로 실패 처리한다
+     */
+    synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.nanoTime() - openedAt >= openNanos) {
+                    state = State.HALF_OPEN;
+                    return true;
+                }
+                rejectedCount++;
+                return false;
+            default:
+                // 시험 호출 진행 중
+                rejectedCount++;
+                return false;
+        }
+    }
+
+    synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+            openCount++;
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    synchronized long getOpenCount() {
+        return openCount;
+    }
+
+    synchronized long getRejectedCount() {
+        return rejectedCount;
+    }
+}
@@ -1,28 +1,208 @@
 package org.example.expert.client;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.dto.WeatherClientStatsResponse;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * 날씨 조회 - 1년치 weather.json 을 한 번 받아 MM-dd -> 날씨 맵으로 들고 있고 주기적으로만 다시 받는다.
+ * 일정 저장 시에는 맵 조회만 하므로 네트워크를 타지 않는다. (맵이 아직 없을 때만 받아온다)
+ * 동시에 여러 요청이 받아오려 하면 한 번의 HTTP 호출을 함께 기다리고, 갱신에 실패하면 마지막으로 받은 맵을 계속 쓴다.
+ * HTTP 호출은 keep-alive 커넥션을 재사용하는 JDK HttpClient 에 connect/read 타임아웃을 걸고,
+ * 연속으로 실패하면 서킷을 열어 한동안 호출 없이 바로 실패시킨다. 대체값은 두지 않고, 호출하는 쪽이 실패를 처리한다.
+ */
+@Slf4j
 @Component
-public class WeatherClient {
+public class WeatherClient implements MeterBinder {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MM-dd");
 
     private final RestTemplate restTemplate;
+    private final String baseUrl;
+    private final WeatherCircuitBreaker circuitBreaker;
+
+    // 마지막으로 성공한 weather.json (MM-dd -> 날씨)
+    private volatile Map<String, String> weatherByDate;
+    // 진행 중인 다운로드 - 동시에 들어온 요청은 새로 받지 않고 이것을 기다린다
+    private final AtomicReference<CompletableFuture<Map<String, String>>> inFlight = new AtomicReference<>();
+
+    // 지표 (GET /admin/weather/stats)
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    // Micrometer 타이머 - bindTo 이후에만 기록 (MeterRegistry 없이 만든 경우 건너뜀)
+    private volatile Timer successTimer;
+    private volatile Timer failureTimer;
+
+    public WeatherClient(
+            RestTemplateBuilder builder,
+            @Value("${weather.base-url:https://f-api.github.io}") String baseUrl,
+            @Value("${weather.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${weather.http.read-timeout:5s}") Duration readTimeout,
+            @Value("${weather.circuit-breaker.failure-threshold:3}") int failureThreshold,
+            @Value("${weather.circuit-breaker.open-duration:30s}") Duration openDuration
+    ) {
+        // HTTP/1.1 keep-alive 커넥션은 HttpClient 내부 풀에서 재사용된다
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+
+        this.restTemplate = builder.requestFactory(() -> requestFactory).build();
+        this.baseUrl = baseUrl;
+        this.circuitBreaker = new WeatherCircuitBreaker(failureThreshold, openDuration.toNanos());
+    }
+
+    /**
+     * 받아둔 데이터가 없으면 받아온다 - 받아오지 못하면(실패/서킷 열림) 예외
+     *
+     * @return 오늘 날짜가 없으면 null
+     */
+    public String loadTodayWeather() {
+        Map<String, String> current = weatherByDate;
+        return (current != null ? current : refresh()).get(getCurrentDate());
+    }
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    /**
+     * 네트워크 없이 받아둔 데이터에서만 찾는다.
+     *
+     * @return 아직 받아둔 데이터가 없거나 오늘 날짜가 없으면 null
+     */
+    public String findCachedTodayWeather() {
+        Map<String, String> current = weatherByDate;
+        return current != null ? current.get(getCurrentDate()) : null;
+    }
+
+    /**
+     * 기동 직후와 이후 주기적으로 미리 받아둔다. 날짜를 키로 들고 있으므로 자정에 따로 비울 필요는 없다.
+     */
+    @Scheduled(fixedDelayString = "${weather.refresh-interval:PT6H}")
+    public void refreshPeriodically() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("날씨 데이터 갱신 실패 - 이전 데이터 유지 (loaded: {})", weatherByDate != null, e);
+        }
+    }
+
+    /**
+     * 다운로드는 동시에 하나만 - 이미 진행 중이면 그 결과를 함께 기다린다.
+     */
+    public Map<String, String> refresh() {
+        CompletableFuture<Map<String, String>> created = new CompletableFuture<>();
+        CompletableFuture<Map<String, String>> running = inFlight.compareAndExchange(null, created);
+        if (running != null) {
+            return join(running);
+        }
+
+        try {
+            Map<String, String> loaded = fetchThroughCircuitBreaker();
+            weatherByDate = loaded;
+            created.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.set(null);
+        }
     }
 
-    public String getTodayWeather() {
+    public WeatherClientStatsResponse getStats() {
+        long requests = requestCount.sum();
+        return new WeatherClientStatsResponse(
+                weatherByDate != null,
+                circuitBreaker.getState().name(),
+                circuitBreaker.getConsecutiveFailures(),
+                circuitBreaker.getOpenCount(),
+                circuitBreaker.getRejectedCount(),
+                requests,
+                failureCount.sum(),
+                requests == 0 ? 0.0 : totalLatencyNanos.sum() / (double) requests / 1_000_000,
+                maxLatencyNanos.get() / 1_000_000.0
+        );
+    }
+
+    private Map<String, String> fetchThroughCircuitBreaker() {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new ServerException("날씨 API 호출이 차단된 상태입니다. (연속 실패로 서킷 열림)");
+        }
+
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Map<String, String> loaded = fetch();
+            circuitBreaker.onSuccess();
+            success = true;
+            return loaded;
+        } catch (RuntimeException e) {
+            failureCount.increment();
+            circuitBreaker.onFailure();
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            requestCount.increment();
+            totalLatencyNanos.add(elapsed);
+            maxLatencyNanos.accumulateAndGet(elapsed, Math::max);
+            Timer timer = success ? successTimer : failureTimer;
+            if (timer != null) {
+                timer.record(elapsed, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        successTimer = Timer.builder("weather.client.requests")
+                .description("weather.json 다운로드 지연")
+                .tag("outcome", "SUCCESS")
+                .register(registry);
+        failureTimer = Timer.builder("weather.client.requests")
+                .description("weather.json 다운로드 지연")
+                .tag("outcome", "FAILURE")
+                .register(registry);
+        Gauge.builder("weather.client.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+                .register(registry);
+        FunctionCounter.builder("weather.client.circuit.rejected", circuitBreaker, WeatherCircuitBreaker::getRejectedCount)
+                .description("서킷이 열려 호출하지 않은 횟수")
+                .register(registry);
+    }
+
+    private Map<String, String> fetch() {
         ResponseEntity<WeatherDto[]> responseEntity =
                 restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
 
@@ -35,20 +215,28 @@ public class WeatherClient {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
 
-        String today = getCurrentDate();
-
+        Map<String, String> byDate = new HashMap<>(weatherArray.length * 2);
         for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
-            }
+            byDate.put(weatherDto.getDate(), weatherDto.getWeather());
         }
+        log.info("날씨 데이터 갱신 - {} 일", byDate.size());
+        return Collections.unmodifiableMap(byDate);
+    }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    private static Map<String, String> join(CompletableFuture<Map<String, String>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
     }
 
     private URI buildWeatherApiUri() {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(baseUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
@@ -56,7 +244,6 @@ public class WeatherClient {
     }
 
     private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+        return LocalDate.now().format(DATE_FORMAT);
     }
 }
@@ -0,0 +1,25 @@
+package org.example.expert.client.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.client.dto.WeatherClientStatsResponse;
+import org.example.expert.querybudget.annotation.QueryBudget;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class WeatherAdminController {
+
+    private final WeatherClient weatherClient;
+
+    /**
+     * 날씨 API 호출 지연(ms)/실패 수와 서킷 브레이커 상태
+     */
+    @GetMapping("/admin/weather/stats")
+    @QueryBudget(0)
+    public ResponseEntity<WeatherClientStatsResponse> getWeatherStats() {
+        return ResponseEntity.ok(weatherClient.getStats());
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.expert.client.dto;
+
+import lombok.Getter;
+
+@Getter
+public class WeatherClientStatsResponse {
+
+    private final boolean loaded;
+    private final String circuitState;
+    private final int consecutiveFailures;
+    private final long openCount;
+    private final long rejectedCount;
+    private final long requestCount;
+    private final long failureCount;
+    private final double averageLatencyMillis;
+    private final double maxLatencyMillis;
+
+    public WeatherClientStatsResponse(boolean loaded, String circuitState, int consecutiveFailures, long openCount,
+                                      long rejectedCount, long requestCount, long failureCount,
+                                      double averageLatencyMillis, double maxLatencyMillis) {
+        this.loaded = loaded;
+        this.circuitState = circuitState;
+        this.consecutiveFailures = consecutiveFailures;
+        this.openCount = openCount;
+        this.rejectedCount = rejectedCount;
+        this.requestCount = requestCount;
+        this.failureCount = failureCount;
+        this.averageLatencyMillis = averageLatencyMillis;
+        this.maxLatencyMillis = maxLatencyMillis;
+    }
+}
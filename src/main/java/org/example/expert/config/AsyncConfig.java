@@ -0,0 +1,12 @@
+package org.example.expert.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * @Async 작업은 Boot 의 applicationTaskExecutor 에서 실행 (spring.threads.virtual.enabled 이면 가상 스레드)
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,78 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate 2차 캐시 (JCache + Caffeine)
+ * 리전별 최대 크기/만료를 설정 값으로 받아 CacheManager 를 직접 만들어 Hibernate 에 넘긴다.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String USER_REGION = "user";
+    public static final String TODO_REGION = "todo";
+    public static final String TODO_QUERY_REGION = "todo-query";
+
+    public static final List<String> ENTITY_REGIONS = List.of(USER_REGION, TODO_REGION);
+    public static final List<String> QUERY_REGIONS = List.of(TODO_QUERY_REGION, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+
+    @Value("${cache.second-level.user.max-size:10000}")
+    private long userMaxSize;
+
+    @Value("${cache.second-level.todo.max-size:10000}")
+    private long todoMaxSize;
+
+    @Value("${cache.second-level.query.max-size:10000}")
+    private long queryMaxSize;
+
+    @Value("${cache.second-level.expire-after-write:10m}")
+    private Duration expireAfterWrite;
+
+    @Bean
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+
+        createCache(cacheManager, USER_REGION, bounded(userMaxSize));
+        createCache(cacheManager, TODO_REGION, bounded(todoMaxSize));
+        createCache(cacheManager, TODO_QUERY_REGION, bounded(queryMaxSize));
+        createCache(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, bounded(queryMaxSize));
+        // 테이블별 마지막 변경 시각 - 밀려나면 쿼리 캐시가 오래된 결과를 돌려줄 수 있어 크기/만료 제한을 두지 않는다.
+        createCache(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, new CaffeineConfiguration<>());
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateSecondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private CaffeineConfiguration<Object, Object> bounded(long maxSize) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.NANOSECONDS.convert(expireAfterWrite)));
+        return configuration;
+    }
+
+    // 같은 JVM 에서 컨텍스트가 다시 뜨는 경우(테스트) 기본 CacheManager 를 공유하므로 기존 캐시를 교체
+    private void createCache(CacheManager cacheManager, String name, CaffeineConfiguration<Object, Object> configuration) {
+        if (cacheManager.getCache(name) != null) {
+            cacheManager.destroyCache(name);
+        }
+        cacheManager.createCache(name, configuration);
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 컨트롤러 지연(http.server.requests), Hikari, Hibernate 지표는 Actuator 가 자동으로 등록한다.
+ * 그 외 메서드는 @Timed (TimedAspect) 로, 컴포넌트 내부 상태는 MeterBinder 구현으로 노출한다. (WeatherClient, LogService)
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
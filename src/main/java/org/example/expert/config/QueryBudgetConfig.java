@@ -0,0 +1,55 @@
+package org.example.expert.config;
+
+import org.example.expert.querybudget.QueryBudgetFilter;
+import org.example.expert.querybudget.QueryBudgetInterceptor;
+import org.example.expert.querybudget.QueryCountingDataSource;
+import org.example.expert.querybudget.enums.QueryBudgetMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청별 SQL 문 예산 (@QueryBudget) - DataSource 를 QueryCountingDataSource 로 감싸고 QueryBudgetFilter / QueryBudgetInterceptor 를 등록한다.
+ * enabled=false 면 필터를 등록하지 않으므로 집계가 열리지 않고 Statement 도 감싸지 않는다.
+ */
+@Configuration
+public class QueryBudgetConfig implements WebMvcConfigurer {
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)
+                        ? new QueryCountingDataSource(dataSource)
+                        : bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryBudgetFilter> queryBudgetFilter(
+            @Value("${query-budget.enabled:true}") boolean enabled,
+            @Value("${query-budget.mode:LOG}") QueryBudgetMode mode,
+            @Value("${query-budget.repeat-threshold:3}") int repeatThreshold
+    ) {
+        FilterRegistrationBean<QueryBudgetFilter> registration =
+                new FilterRegistrationBean<>(new QueryBudgetFilter(mode, repeatThreshold));
+        registration.setEnabled(enabled);
+        // Spring Security 필터 체인(JwtFilter) 바로 바깥
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryBudgetInterceptor());
+    }
+}
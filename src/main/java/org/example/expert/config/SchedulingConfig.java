@@ -0,0 +1,12 @@
+package org.example.expert.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 (날씨 데이터 주기 갱신 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,9 +1,12 @@
 package org.example.expert.config;
 
 import lombok.RequiredArgsConstructor;
-import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.security.FavreBCryptPasswordEncoder;
 import org.example.expert.security.JwtFilter;
 import org.example.expert.security.JwtUtil;
+import org.example.expert.security.PrincipalResolver;
+import org.example.expert.security.TokenRevocationStore;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -21,16 +24,27 @@ import org.springframework.security.web.servletapi.SecurityContextHolderAwareReq
 public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final PrincipalResolver principalResolver;
+    private final TokenRevocationStore tokenRevocationStore;
 
     @Bean
     public JwtFilter jwtFilter() {
-        return new JwtFilter(jwtUtil, userRepository);
+        return new JwtFilter(jwtUtil, principalResolver, tokenRevocationStore);
     }
 
+    /**
+     * cost 를 올리면 기존 해시는 다음 로그인 때 새 cost 로 재해시된다. (AuthService.signin)
+     * implementation: spring | favre (at.favre.lib:bcrypt) - 같은 $2a$ 형식이라 서로 검증 가능
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${password.bcrypt.strength:10}") int strength,
+            @Value("${password.bcrypt.implementation:spring}") String implementation
+    ) {
+        if ("favre".equalsIgnoreCase(implementation)) {
+            return new FavreBCryptPasswordEncoder(strength);
+        }
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -42,6 +56,7 @@ public class SecurityConfig {
                 .addFilterBefore(jwtFilter(), SecurityContextHolderAwareRequestFilter.class)  // 메서드 호출해서 필터 주입
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/auth/signup","/auth/signin").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                         .requestMatchers("/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/**").hasRole("USER")
                         .anyRequest().authenticated()
@@ -7,8 +7,11 @@ import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
 import org.example.expert.domain.auth.service.AuthService;
+import org.example.expert.querybudget.annotation.QueryBudget;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -18,12 +21,20 @@ public class AuthController {
     private final AuthService authService;
 
     @PostMapping("/auth/signup")
+    @QueryBudget(2)
     public SignupResponse signup(@Valid @RequestBody SignupRequest signupRequest) {
         return authService.signup(signupRequest);
     }
 
     @PostMapping("/auth/signin")
+    @QueryBudget(1)
     public SigninResponse signin(@Valid @RequestBody SigninRequest signinRequest) {
         return authService.signin(signinRequest);
     }
+
+    @PostMapping("/auth/signout")
+    @QueryBudget(0)
+    public void signout(@RequestHeader(HttpHeaders.AUTHORIZATION) String bearerToken) {
+        authService.signout(bearerToken);
+    }
 }
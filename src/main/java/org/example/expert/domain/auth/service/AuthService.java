@@ -2,6 +2,8 @@ package org.example.expert.domain.auth.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.security.JwtUtil;
+import org.example.expert.security.PasswordHasher;
+import org.example.expert.security.TokenRevocationStore;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
@@ -11,9 +13,10 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -21,43 +24,75 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtUtil jwtUtil;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    /**
+     * bcrypt 해시는 트랜잭션(커넥션) 밖에서 만들고, 저장만 짧은 쓰기 트랜잭션으로 실행한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SignupResponse signup(SignupRequest signupRequest) {
 
         if (userRepository.existsByEmail(signupRequest.getEmail())) {
             throw new InvalidRequestException("이미 존재하는 이메일입니다.");
         }
 
-        String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
-
         UserRole userRole = UserRole.of(signupRequest.getUserRole());
 
+        String encodedPassword = passwordHasher.encode(signupRequest.getPassword());
+
         User newUser = new User(
                 signupRequest.getEmail(),
                 encodedPassword,
                 userRole
         );
-        User savedUser = userRepository.save(newUser);
+        User savedUser = transactionTemplate.execute(status -> userRepository.save(newUser));
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole,savedUser.getNickname());
 
         return new SignupResponse(bearerToken);
     }
 
+    /**
+     * bcrypt 검증은 트랜잭션(커넥션) 밖에서 실행한다.
+     * 조회는 리포지토리의 읽기 트랜잭션으로 끝내고, 재해시 저장만 짧은 쓰기 트랜잭션을 따로 연다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SigninResponse signin(SigninRequest signinRequest) {
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
 
         // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
-        if (!passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())) {
+        PasswordHasher.Verification verification = passwordHasher.verify(signinRequest.getPassword(), user.getPassword());
+        if (!verification.isMatched()) {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        // bcrypt cost 가 바뀐 뒤 첫 로그인이면 새 cost 로 다시 저장
+        if (verification.getRehashed() != null) {
+            saveRehashed(user.getId(), user.getPassword(), verification.getRehashed());
+        }
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(),user.getNickname());
 
         return new SigninResponse(bearerToken);
     }
+
+    /**
+     * 검증하는 사이 비밀번호가 바뀌었으면 새 비밀번호를 옛 비밀번호의 재해시로 덮어쓰지 않는다.
+     */
+    private void saveRehashed(Long userId, String verifiedPassword, String rehashed) {
+        transactionTemplate.executeWithoutResult(status -> userRepository.findById(userId)
+                .filter(found -> found.getPassword().equals(verifiedPassword))
+                .ifPresent(found -> found.changePassword(rehashed)));
+    }
+
+    /**
+     * 지금 사용 중인 토큰만 폐기 (다른 기기의 토큰은 유지)
+     */
+    public void signout(String bearerToken) {
+        tokenRevocationStore.revoke(jwtUtil.extractClaims(jwtUtil.substringToken(bearerToken)));
+    }
 }
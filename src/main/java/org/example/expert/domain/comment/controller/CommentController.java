@@ -3,15 +3,20 @@ package org.example.expert.domain.comment.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentCursorResponse;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.web.ConditionalResponses;
+import org.example.expert.querybudget.annotation.QueryBudget;
 import org.example.expert.security.CustomUserDetails;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,6 +27,7 @@ public class CommentController {
     private final CommentService commentService;
 
     @PostMapping("/todos/{todoId}/comments")
+    @QueryBudget(3)
     public ResponseEntity<CommentSaveResponse> saveComment(
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
             @PathVariable long todoId,
@@ -31,7 +37,22 @@ public class CommentController {
     }
 
     @GetMapping("/todos/{todoId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
-        return ResponseEntity.ok(commentService.getComments(todoId));
+    @QueryBudget(2)
+    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId, WebRequest webRequest) {
+        String etag = commentService.getCommentsEtag(todoId);
+        return ConditionalResponses.ofEtag(webRequest, etag, () -> commentService.getComments(todoId));
+    }
+
+    /**
+     * 커서 모드 - cursor 파라미터가 있으면(첫 페이지는 빈 값) 전체 목록 대신 (createdAt, id) 키셋으로 최신순 size 건씩 조회
+     */
+    @GetMapping(value = "/todos/{todoId}/comments", params = "cursor")
+    @QueryBudget(1)
+    public ResponseEntity<CursorResponse<CommentCursorResponse>> getCommentsByCursor(
+            @PathVariable long todoId,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(commentService.getCommentsByCursor(todoId, cursor, size));
     }
 }
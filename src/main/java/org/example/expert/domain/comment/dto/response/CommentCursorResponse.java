@@ -0,0 +1,25 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+import java.time.LocalDateTime;
+
+/**
+ * 커서 모드 댓글 - CommentResponse 에 정렬/커서 키 (createdAt, id) 의 createdAt 을 더한다.
+ */
+@Getter
+public class CommentCursorResponse {
+
+    private final Long id;
+    private final String contents;
+    private final UserResponse user;
+    private final LocalDateTime createdAt;
+
+    public CommentCursorResponse(Long id, String contents, UserResponse user, LocalDateTime createdAt) {
+        this.id = id;
+        this.contents = contents;
+        this.user = user;
+        this.createdAt = createdAt;
+    }
+}
@@ -10,7 +10,10 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // 일정별 댓글 최신순 커서 조회 (todo_id 외래키 인덱스도 겸한다)
+        @Index(name = "idx_comments_todo_created_at_id", columnList = "todo_id, createdAt DESC, id DESC")
+})
 public class Comment extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,14 +1,91 @@
 package org.example.expert.domain.comment.repository;
 
+import org.example.expert.domain.comment.dto.response.CommentCursorResponse;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.dto.Cursor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * 댓글 조회는 모두 생성자 프로젝션 - 엔티티/프록시/스냅샷 없이 응답 DTO 에 필요한 컬럼만 읽는다.
+ * 커서 조회는 (todo_id, createdAt, id) 인덱스를 순서대로 읽다가 limit 에서 멈춘다.
+ */
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    // 전체 목록 (기존 API) - 작성 순
+    @Query("""
+    SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(
+        c.id, c.contents,
+        new org.example.expert.domain.user.dto.response.UserResponse(u.id, u.email))
+    FROM Comment c JOIN c.user u
+    WHERE c.todo.id = :todoId
+    ORDER BY c.createdAt ASC, c.id ASC
+""")
+    List<CommentResponse> findResponsesByTodoId(@Param("todoId") Long todoId);
+
+    /**
+     * 첫 페이지(cursor == null)와 NEXT 는 최신순, PREV 는 커서 이후를 오래된 순으로 limit 건
+     */
+    default List<CommentCursorResponse> findResponsePage(Long todoId, Cursor cursor, Limit limit) {
+        if (cursor == null) {
+            return findFirstResponsePage(todoId, limit);
+        }
+        return cursor.isPrev()
+                ? findResponsePageAfter(todoId, cursor.getAt(), cursor.getId(), limit)
+                : findResponsePageBefore(todoId, cursor.getAt(), cursor.getId(), limit);
+    }
+
+    @Query("""
+    SELECT new org.example.expert.domain.comment.dto.response.CommentCursorResponse(
+        c.id, c.contents,
+        new org.example.expert.domain.user.dto.response.UserResponse(u.id, u.email),
+        c.createdAt)
+    FROM Comment c JOIN c.user u
+    WHERE c.todo.id = :todoId
+    ORDER BY c.createdAt DESC, c.id DESC
+""")
+    List<CommentCursorResponse> findFirstResponsePage(@Param("todoId") Long todoId, Limit limit);
+
+    // createdAt <= :at 을 함께 걸어 OR 조건에서도 인덱스 범위 탐색이 되도록 한다
+    @Query("""
+    SELECT new org.example.expert.domain.comment.dto.response.CommentCursorResponse(
+        c.id, c.contents,
+        new org.example.expert.domain.user.dto.response.UserResponse(u.id, u.email),
+        c.createdAt)
+    FROM Comment c JOIN c.user u
+    WHERE c.todo.id = :todoId
+      AND c.createdAt <= :at
+      AND (c.createdAt < :at OR (c.createdAt = :at AND c.id < :id))
+    ORDER BY c.createdAt DESC, c.id DESC
+""")
+    List<CommentCursorResponse> findResponsePageBefore(
+            @Param("todoId") Long todoId,
+            @Param("at") LocalDateTime at,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    @Query("""
+    SELECT new org.example.expert.domain.comment.dto.response.CommentCursorResponse(
+        c.id, c.contents,
+        new org.example.expert.domain.user.dto.response.UserResponse(u.id, u.email),
+        c.createdAt)
+    FROM Comment c JOIN c.user u
+    WHERE c.todo.id = :todoId
+      AND c.createdAt >= :at
+      AND (c.createdAt > :at OR (c.createdAt = :at AND c.id > :id))
+    ORDER BY c.createdAt ASC, c.id ASC
+""")
+    List<CommentCursorResponse> findResponsePageAfter(
+            @Param("todoId") Long todoId,
+            @Param("at") LocalDateTime at,
+            @Param("id") Long id,
+            Limit limit
+    );
 }
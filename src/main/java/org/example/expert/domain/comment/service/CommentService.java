@@ -2,20 +2,25 @@ package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentCursorResponse;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.TodoVersion;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoCountRepository;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.security.CustomUserDetails;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -23,7 +28,10 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class CommentService {
 
+    private static final int MAX_CURSOR_SIZE = 100;
+
     private final TodoRepository todoRepository;
+    private final TodoCountRepository todoCountRepository;
     private final CommentRepository commentRepository;
 
     @Transactional
@@ -39,6 +47,7 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        todoCountRepository.addCommentCount(todo.getId(), 1);
 
         return new CommentSaveResponse(
                 savedComment.getId(),
@@ -47,19 +56,25 @@ public class CommentService {
         );
     }
 
+    public String getCommentsEtag(long todoId) {
+        return todoRepository.findVersionById(todoId)
+                .map(TodoVersion::commentsEtag)
+                .orElse(null);
+    }
+
+    /**
+     * 전체 목록 - 응답 형식을 유지하는 기존 API. 댓글이 많은 일정은 getCommentsByCursor 를 쓴다.
+     */
     public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
+        return commentRepository.findResponsesByTodoId(todoId);
+    }
+
+    public CursorResponse<CommentCursorResponse> getCommentsByCursor(long todoId, String cursorValue, int size) {
+        Cursor cursor = Cursor.decode(cursorValue);
+        int limit = Math.min(Math.max(size, 1), MAX_CURSOR_SIZE);
+
+        List<CommentCursorResponse> rows = commentRepository.findResponsePage(todoId, cursor, Limit.of(limit + 1));
 
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
-        }
-        return dtoList;
+        return CursorResponse.of(rows, limit, cursor, CommentCursorResponse::getCreatedAt, CommentCursorResponse::getId);
     }
 }
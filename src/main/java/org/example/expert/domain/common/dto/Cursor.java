@@ -0,0 +1,75 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * (시각, id) 키셋 페이지네이션 커서
+ * 클라이언트에는 방향까지 포함한 Base64 문자열로만 노출된다.
+ */
+@Getter
+public class Cursor {
+
+    public enum Direction { NEXT, PREV }
+
+    private static final String DELIMITER = "|";
+
+    private final Direction direction;
+    private final LocalDateTime at;
+    private final Long id;
+
+    public Cursor(Direction direction, LocalDateTime at, Long id) {
+        this.direction = direction;
+        this.at = at;
+        this.id = id;
+    }
+
+    public static Cursor next(LocalDateTime at, Long id) {
+        return new Cursor(Direction.NEXT, at, id);
+    }
+
+    public static Cursor prev(LocalDateTime at, Long id) {
+        return new Cursor(Direction.PREV, at, id);
+    }
+
+    public boolean isPrev() {
+        return direction == Direction.PREV;
+    }
+
+    public String encode() {
+        String raw = direction.name().charAt(0) + DELIMITER + at + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 빈 문자열이면 첫 페이지로 보고 null 을 반환한다.
+     * 방향(N/P), 시각, id 세 부분이 정확히 맞지 않으면 변조된 것으로 보고 거부한다.
+     */
+    public static Cursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new Cursor(direction(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    private static Direction direction(String value) {
+        return switch (value) {
+            case "N" -> Direction.NEXT;
+            case "P" -> Direction.PREV;
+            default -> throw new IllegalArgumentException(value);
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+public class CursorResponse<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final String nextCursor;
+    private final String prevCursor;
+
+    public CursorResponse(List<T> content, int size, String nextCursor, String prevCursor) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.prevCursor = prevCursor;
+    }
+
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean isHasPrev() {
+        return prevCursor != null;
+    }
+
+    /**
+     * 탐색 방향 순서로 size + 1 건까지 조회한 결과를 화면 순서(최신순)로 정리하고 앞/뒤 커서를 만든다.
+     * 초과로 조회된 한 건은 탐색 방향으로 더 읽을 데이터가 있는지 판단하는 데만 사용한다.
+     */
+    public static <T> CursorResponse<T> of(
+            List<T> fetched,
+            int size,
+            Cursor cursor,
+            Function<T, LocalDateTime> at,
+            Function<T, Long> id
+    ) {
+        boolean hasMore = fetched.size() > size;
+        List<T> rows = new ArrayList<>(hasMore ? fetched.subList(0, size) : fetched);
+
+        if (rows.isEmpty()) {
+            return new CursorResponse<>(rows, size, null, null);
+        }
+
+        boolean backward = cursor != null && cursor.isPrev();
+        if (backward) {
+            Collections.reverse(rows);
+        }
+
+        T first = rows.get(0);
+        T last = rows.get(rows.size() - 1);
+
+        boolean hasNext = backward || hasMore;
+        boolean hasPrev = backward ? hasMore : cursor != null;
+
+        return new CursorResponse<>(
+                rows,
+                size,
+                hasNext ? Cursor.next(at.apply(last), id.apply(last)).encode() : null,
+                hasPrev ? Cursor.prev(at.apply(first), id.apply(first)).encode() : null
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.expert.domain.common.exception;
+
+/**
+ * 처리 용량 초과 - 잠시 후 재시도 가능 (503)
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.expert.domain.common.web;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * ETag 기반 조건부 GET
+ * If-None-Match 가 현재 ETag 와 같으면 본문을 만들지 않고(엔티티 조회/JSON 직렬화 생략) 304 를 반환한다.
+ */
+public final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    /**
+     * 버전은 본문보다 먼저 읽어야 한다. 사이에 변경이 끼면 본문이 ETag 보다 새로울 뿐이라
+     * 다음 요청에서 200 이 한 번 더 나갈 뿐 오래된 본문이 304 로 고정되지는 않는다.
+     *
+     * @param etag null 이면(대상 없음 등) 조건부 처리 없이 본문을 그대로 반환
+     */
+    public static <T> ResponseEntity<T> ofEtag(WebRequest request, String etag, Supplier<T> body) {
+        if (etag == null) {
+            return ResponseEntity.ok(body.get());
+        }
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(body.get());
+    }
+}
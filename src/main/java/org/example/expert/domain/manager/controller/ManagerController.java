@@ -4,14 +4,17 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.web.ConditionalResponses;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.querybudget.annotation.QueryBudget;
 import org.example.expert.security.CustomUserDetails;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,6 +25,7 @@ public class ManagerController {
     private final ManagerService managerService;
 
     @PostMapping("/todos/{todoId}/managers")
+    @QueryBudget(4)
     public ResponseEntity<ManagerSaveResponse> saveManager(
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
             @PathVariable long todoId,
@@ -31,11 +35,14 @@ public class ManagerController {
     }
 
     @GetMapping("/todos/{todoId}/managers")
-    public ResponseEntity<List<ManagerResponse>> getMembers(@PathVariable long todoId) {
-        return ResponseEntity.ok(managerService.getManagers(todoId));
+    @QueryBudget(3)
+    public ResponseEntity<List<ManagerResponse>> getMembers(@PathVariable long todoId, WebRequest webRequest) {
+        String etag = managerService.getManagersEtag(todoId);
+        return ConditionalResponses.ofEtag(webRequest, etag, () -> managerService.getManagers(todoId));
     }
 
     @DeleteMapping("/todos/{todoId}/managers/{managerId}")
+    @QueryBudget(4)
     public void deleteManager(
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
             @PathVariable long todoId,
@@ -9,7 +9,10 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "managers")
+@Table(name = "managers", indexes = {
+        @Index(name = "idx_managers_todo_id_user_id", columnList = "todo_id, user_id"),
+        @Index(name = "idx_managers_user_id", columnList = "user_id")
+})
 public class Manager {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,7 +1,7 @@
 package org.example.expert.domain.manager.service;
 
 import lombok.RequiredArgsConstructor;
-import org.example.expert.aop.annotation.ManagerRegisterLog;
+import org.example.expert.aop.annotation.AuditLog;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
@@ -9,7 +9,9 @@ import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.TodoVersion;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoCountRepository;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
@@ -30,9 +32,12 @@ public class ManagerService {
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
+    private final TodoCountRepository todoCountRepository;
 
     @Transactional
-    @ManagerRegisterLog
+    @AuditLog(action = "MANAGER_REGISTER",
+            message = "매니저 등록 요청 - UserID: {userId}, URL: {url}, Method: {method}, "
+                    + "Args: TodoId={todoId}, ManagerSaveRequest[managerId={managerSaveRequest.managerUserId}]")
     public ManagerSaveResponse saveManager(CustomUserDetails customUserDetails, long todoId, ManagerSaveRequest managerSaveRequest) {
         // 일정을 만든 유저
         User user = User.fromCustomUserDetails(customUserDetails);
@@ -52,6 +57,7 @@ public class ManagerService {
 
         Manager newManagerUser = new Manager(managerUser, todo);
         Manager savedManagerUser = managerRepository.save(newManagerUser);
+        todoCountRepository.addManagerCount(todo.getId(), 1);
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
@@ -59,6 +65,12 @@ public class ManagerService {
         );
     }
 
+    public String getManagersEtag(long todoId) {
+        return todoRepository.findVersionById(todoId)
+                .map(TodoVersion::managersEtag)
+                .orElse(null);
+    }
+
     public List<ManagerResponse> getManagers(long todoId) {
         Todo todo = todoRepository.findById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
@@ -95,5 +107,6 @@ public class ManagerService {
         }
 
         managerRepository.delete(manager);
+        todoCountRepository.addManagerCount(todo.getId(), -1);
     }
 }
@@ -0,0 +1,23 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.response.TodoRecountResponse;
+import org.example.expert.domain.todo.service.TodoCountService;
+import org.example.expert.querybudget.annotation.QueryBudget;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TodoCountService todoCountService;
+
+    @PostMapping("/admin/todos/counts/recount")
+    @QueryBudget(value = 3, bulk = true)
+    public ResponseEntity<TodoRecountResponse> recountTodoCounts(@RequestParam(defaultValue = "1000") int chunkSize) {
+        return ResponseEntity.ok(todoCountService.recountAll(chunkSize));
+    }
+}
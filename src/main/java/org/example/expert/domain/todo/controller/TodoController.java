@@ -2,24 +2,35 @@ package org.example.expert.domain.todo.controller;
 
 
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.web.ConditionalResponses;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.enums.TodoExportFormat;
+import org.example.expert.domain.todo.service.TodoExportService;
 import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.querybudget.annotation.QueryBudget;
 import org.example.expert.security.CustomUserDetails;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 
 @RestController
@@ -27,8 +38,10 @@ import java.time.LocalDateTime;
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoExportService todoExportService;
 
     @PostMapping("/todos")
+    @QueryBudget(3)
     public ResponseEntity<TodoSaveResponse> saveTodo(
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
             @Valid @RequestBody TodoSaveRequest todoSaveRequest
@@ -36,7 +49,9 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(customUserDetails, todoSaveRequest));
     }
 
+    // 목록 + count (마지막 페이지처럼 건수가 정해지면 count 생략)
     @GetMapping("/todos")
+    @QueryBudget(2)
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size,
@@ -50,12 +65,56 @@ public class TodoController {
     }
 
 
+    /**
+     * 커서 모드 - cursor 파라미터가 있으면(첫 페이지는 빈 값) offset 대신 (modifiedAt, id) 키셋으로 조회
+     */
+    @GetMapping(value = "/todos", params = "cursor")
+    @QueryBudget(1)
+    public ResponseEntity<CursorResponse<TodoResponse>> getTodosByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end
+    ) {
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size, weather, start, end));
+    }
+
+    /**
+     * 전체 내보내기 - NDJSON / CSV 를 응답 스트림에 바로 기록 (GET /todos 와 같은 필터)
+     */
+    @GetMapping("/todos/export")
+    @QueryBudget(1)
+    public void exportTodos(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            HttpServletResponse response
+    ) throws IOException {
+        TodoExportFormat exportFormat = TodoExportFormat.of(format);
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos." + exportFormat.getExtension() + "\"");
+
+        todoExportService.export(exportFormat, weather, start, end, response.getOutputStream());
+    }
+
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
-        return ResponseEntity.ok(todoService.getTodo(todoId));
+    @QueryBudget(2)
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId, WebRequest webRequest) {
+        String etag = todoService.getTodoEtag(todoId);
+        return ConditionalResponses.ofEtag(webRequest, etag, () -> todoService.getTodo(todoId));
     }
 
+    // 제목 검색은 색인 미반영 구간 보정 조회가 1회 더해진다 (QTodoRepositoryImpl.containsTitle)
     @GetMapping("/search")
+    @QueryBudget(3)
     public ResponseEntity<Page<TodoSearchResponse>> searchTodos(
             @ModelAttribute @Valid TodoSearchRequest request,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
@@ -67,5 +126,35 @@ public class TodoController {
         Page<TodoSearchResponse> results = todoService.searchTodos(request, pageable);
         return ResponseEntity.ok(results);
     }
-}
 
+    /**
+     * Slice 모드 - 전체 건수(count 쿼리) 없이 다음 페이지 존재 여부만 반환
+     * cursor 가 함께 오면 커서 모드로 처리한다. (두 매핑이 함께 걸리면 모호한 핸들러로 500)
+     */
+    @GetMapping(value = "/search", params = {"slice=true", "!cursor"})
+    @QueryBudget(2)
+    public ResponseEntity<Slice<TodoSearchResponse>> searchTodosSlice(
+            @ModelAttribute @Valid TodoSearchRequest request,
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        if (!request.isValidDateRange()) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+
+        return ResponseEntity.ok(todoService.searchTodosSlice(request, pageable));
+    }
+
+    @GetMapping(value = "/search", params = "cursor")
+    @QueryBudget(2)
+    public ResponseEntity<CursorResponse<TodoSearchResponse>> searchTodosByCursor(
+            @ModelAttribute @Valid TodoSearchRequest request,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        if (!request.isValidDateRange()) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+
+        return ResponseEntity.ok(todoService.searchTodosByCursor(request, cursor, size));
+    }
+}
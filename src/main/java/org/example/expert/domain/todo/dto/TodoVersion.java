@@ -0,0 +1,45 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 일정/댓글 목록/담당자 목록의 현재 버전 - 본문을 읽지 않고 ETag 만 만들기 위한 값
+ */
+@Getter
+public class TodoVersion {
+
+    private final Long todoId;
+    private final LocalDateTime modifiedAt;
+    private final long commentVersion;
+    private final long managerVersion;
+
+    public TodoVersion(Long todoId, LocalDateTime modifiedAt, long commentVersion, long managerVersion) {
+        this.todoId = todoId;
+        this.modifiedAt = modifiedAt;
+        this.commentVersion = commentVersion;
+        this.managerVersion = managerVersion;
+    }
+
+    public String todoEtag() {
+        return etag("todo", modifiedAt == null ? 0L : epochMicros(modifiedAt));
+    }
+
+    public String commentsEtag() {
+        return etag("comments", commentVersion);
+    }
+
+    public String managersEtag() {
+        return etag("managers", managerVersion);
+    }
+
+    private String etag(String kind, long version) {
+        return "\"" + kind + "-" + todoId + "-" + Long.toHexString(version) + "\"";
+    }
+
+    private static long epochMicros(LocalDateTime at) {
+        return at.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + at.getNano() / 1_000L;
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TodoExportRow {
+
+    private final Long id;
+    private final String title;
+    private final String contents;
+    private final String weather;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+    private final Long userId;
+    private final String userEmail;
+    private final String userNickname;
+
+    public TodoExportRow(Long id, String title, String contents, String weather, LocalDateTime createdAt,
+                         LocalDateTime modifiedAt, Long userId, String userEmail, String userNickname) {
+        this.id = id;
+        this.title = title;
+        this.contents = contents;
+        this.weather = weather;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+        this.userId = userId;
+        this.userEmail = userEmail;
+        this.userNickname = userNickname;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoRecountResponse {
+
+    private final int chunks;
+    private final long updatedTodos;
+
+    public TodoRecountResponse(int chunks, long updatedTodos) {
+        this.chunks = chunks;
+        this.updatedTodos = updatedTodos;
+    }
+}
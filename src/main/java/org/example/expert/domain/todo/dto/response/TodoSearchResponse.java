@@ -4,11 +4,15 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 public class TodoSearchResponse {
+    private Long id;
     private String title;
     private Long managerCount;
     private Long commentCount;
-}
\ No newline at end of file
+    private LocalDateTime createdAt;
+}
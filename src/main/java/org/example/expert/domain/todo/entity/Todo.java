@@ -3,18 +3,29 @@ package org.example.expert.domain.todo.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.config.HibernateCacheConfig;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.event.TodoSavedEventPublisher;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.TODO_REGION)
 @NoArgsConstructor
-@Table(name = "todos")
+@EntityListeners(TodoSavedEventPublisher.class)
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_modified_at_id", columnList = "modifiedAt DESC, id DESC"),
+        @Index(name = "idx_todos_weather_modified_at", columnList = "weather, modifiedAt DESC, id DESC"),
+        @Index(name = "idx_todos_created_at_id", columnList = "createdAt DESC, id DESC")
+})
 public class Todo extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -40,4 +51,13 @@ public class Todo extends Timestamped {
         this.user = user;
         this.managers.add(new Manager(user, this));
     }
+
+    /**
+     * 저장 시점에 몰랐던 날씨를 나중에 채운다. (이미 있으면 유지)
+     */
+    public void enrichWeather(String weather) {
+        if (this.weather == null) {
+            this.weather = weather;
+        }
+    }
 }
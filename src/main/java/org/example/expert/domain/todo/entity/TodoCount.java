@@ -0,0 +1,42 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일정별 비정규화 카운터와 목록 버전
+ * 댓글/담당자가 바뀔 때마다 갱신되므로 2차 캐시 대상인 Todo 와 테이블을 분리한다.
+ * (todos 를 건드리지 않아야 todo 리전과 todos 를 읽는 캐시 쿼리가 카운터 변경으로 무효화되지 않는다)
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "todo_counts")
+public class TodoCount {
+
+    @Id
+    private Long todoId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "todo_id")
+    private Todo todo;
+
+    // 검색 시 managers/comments 조인 없이 읽기 위한 카운터 (증감은 TodoCountRepository 의 원자적 UPDATE 로만 수행)
+    @Column(nullable = false)
+    private long managerCount;
+    @Column(nullable = false)
+    private long commentCount;
+
+    // 댓글/담당자 목록 ETag 용 버전 - 목록이 바뀔 때마다 카운터와 같은 UPDATE 에서 1씩 증가 (todo 의 modifiedAt 은 바뀌지 않음)
+    @Column(nullable = false)
+    private long managerVersion;
+    @Column(nullable = false)
+    private long commentVersion;
+
+    public TodoCount(Todo todo) {
+        this.todo = todo;
+        this.managerCount = todo.getManagers().size();
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.expert.domain.todo.enums;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.Arrays;
+
+@Getter
+public enum TodoExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    TodoExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public static TodoExportFormat of(String format) {
+        return Arrays.stream(TodoExportFormat.values())
+                .filter(f -> f.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("지원하지 않는 내보내기 형식입니다."));
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.expert.domain.todo.enums;
+
+public enum TodoSearchStrategy {
+    // 필터 + 페이징 + 비정규화 카운터(todo_counts)를 한 번의 쿼리로 조회
+    SINGLE_QUERY,
+    // 페이지의 id 만 먼저 조회한 뒤(정렬 인덱스만 사용), 그 id 들의 행과 managers/comments 의 GROUP BY 집계를 따로 조회
+    // 카운터를 쓰지 않으므로 재집계 전의 카운터 오차와 무관하다
+    TWO_PHASE
+}
@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+/**
+ * 일정 저장 이벤트 - 커밋 이후 처리(@TransactionalEventListener)용
+ */
+@Getter
+public class TodoSavedEvent {
+
+    private final Long todoId;
+    private final String title;
+    private final Long userId;
+
+    public TodoSavedEvent(Long todoId, String title, Long userId) {
+        this.todoId = todoId;
+        this.title = title;
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.expert.domain.todo.event;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.entity.Todo;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Todo 엔티티 리스너 - insert/update 가 실행될 때마다 TodoSavedEvent 를 발행한다.
+ * 서비스마다 발행하지 않고 엔티티에 걸어 두어, 제목이 바뀌는 경로가 생겨도 검색 색인/건수 캐시가 따라간다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoSavedEventPublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void publish(Todo todo) {
+        eventPublisher.publishEvent(new TodoSavedEvent(todo.getId(), todo.getTitle(), todo.getUser().getId()));
+    }
+}
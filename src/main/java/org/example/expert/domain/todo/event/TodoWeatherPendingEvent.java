@@ -0,0 +1,16 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+/**
+ * 날씨 없이 저장된 일정 이벤트 - 커밋 이후 비동기로 날씨를 채운다 (TodoWeatherService)
+ */
+@Getter
+public class TodoWeatherPendingEvent {
+
+    private final Long todoId;
+
+    public TodoWeatherPendingEvent(Long todoId) {
+        this.todoId = todoId;
+    }
+}
@@ -1,17 +1,45 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.common.dto.Cursor;
 import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.dto.response.TodoExportRow;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
-import org.example.expert.domain.todo.entity.Todo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.repository.query.Param;
+import org.springframework.data.domain.Slice;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface QTodoRepository {
 
-    Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
-
     Page<TodoSearchResponse> searchTodos(TodoSearchRequest request, Pageable pageable);
+
+    /**
+     * count 쿼리 없이 limit + 1 건만 읽어 다음 페이지 존재 여부를 판단
+     */
+    Slice<TodoSearchResponse> searchTodosSlice(TodoSearchRequest request, Pageable pageable);
+
+    /**
+     * 1단계: 조건에 맞는 페이지의 id 만 조회, 2단계: 그 id 들의 제목은 PK IN (...) 으로,
+     * 담당자/댓글 수는 자식 테이블마다 GROUP BY todo_id ... WHERE todo_id IN (...) 으로 조회 (정렬은 searchTodos 와 같음)
+     */
+    Page<TodoSearchResponse> searchTodosTwoPhase(TodoSearchRequest request, Pageable pageable);
+
+    /**
+     * (modifiedAt, id) 키셋 조회 - 커서 방향 순서로 최대 limit 건 반환
+     */
+    List<TodoResponse> findTodosByCursor(String weather, LocalDateTime start, LocalDateTime end, Cursor cursor, int limit);
+
+    /**
+     * (createdAt, id) 키셋 검색 - 커서 방향 순서로 최대 limit 건 반환
+     */
+    List<TodoSearchResponse> searchTodosByCursor(TodoSearchRequest request, Cursor cursor, int limit);
+
+    /**
+     * findTodoResponsesByParams 와 같은 조건의 전체 결과를 forward-only 커서로 스트리밍 (호출 측에서 반드시 close)
+     */
+    Stream<TodoExportRow> streamForExport(String weather, LocalDateTime start, LocalDateTime end, int fetchSize);
 }
@@ -1,26 +1,46 @@
 package org.example.expert.domain.todo.repository;
 
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QBean;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.dto.Cursor;
 import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.dto.response.TodoExportRow;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
-import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.search.index.IndexCandidates;
+import org.example.expert.search.service.TodoSearchIndexService;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.example.expert.domain.comment.entity.QComment.comment;
 import static org.example.expert.domain.manager.entity.QManager.manager;
 import static org.example.expert.domain.todo.entity.QTodo.todo;
+import static org.example.expert.domain.todo.entity.QTodoCount.todoCount;
 import static org.example.expert.domain.user.entity.QUser.user;
 
 @Repository
@@ -28,79 +48,307 @@ import static org.example.expert.domain.user.entity.QUser.user;
 public class QTodoRepositoryImpl implements QTodoRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final TodoSearchCountCache countCache;
+    private final TodoSearchIndexService searchIndexService;
 
     @Override
-    public Optional<Todo> findByIdWithUser(Long id) {
-        Todo result = queryFactory
-                .selectFrom(todo)
-                .leftJoin(todo.user, user).fetchJoin()
-                .where(todo.id.eq(id))
-                .fetchOne();
-
-        return Optional.ofNullable(result);
-    }
-
-    @Override
+    @Timed(value = "todo.search", extraTags = {"strategy", "SINGLE_QUERY"})
     public Page<TodoSearchResponse> searchTodos(TodoSearchRequest request, Pageable pageable) {
+        Predicate[] conditions = searchConditions(request);
 
         /**
          * 데이터 조회 쿼리
          */
         List<TodoSearchResponse> results = queryFactory
-                .select(Projections.fields(
-                        TodoSearchResponse.class,
-                        todo.title.as("title"),
-                        manager.countDistinct().coalesce(0L).as("managerCount"),
-                        comment.countDistinct().coalesce(0L).as("commentCount")
-                ))
+                .select(searchProjection())
                 .from(todo)
-                .leftJoin(todo.managers, manager)
-                .leftJoin(manager.user, user)
-                .leftJoin(todo.comments, comment)
-                .where(
-                        containsTitle(request.getTitle()),
-                        containsNickname(request.getNickname()),
-                        betweenCreatedAt(request.getStartDate(), request.getEndDate())
-                )
-                .groupBy(todo.id, todo.title, todo.createdAt) // createdAt 추가
-                .orderBy(todo.createdAt.desc())
+                .join(todoCount).on(todoCount.todoId.eq(todo.id))
+                .where(conditions)
+                .orderBy(todo.createdAt.desc(), todo.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return new PageImpl<>(results, pageable, getTotalCount(request, conditions));
+    }
+
+    @Override
+    @Timed(value = "todo.search", extraTags = {"strategy", "SLICE"})
+    public Slice<TodoSearchResponse> searchTodosSlice(TodoSearchRequest request, Pageable pageable) {
+        Predicate[] conditions = searchConditions(request);
+        List<TodoSearchResponse> results = queryFactory
+                .select(searchProjection())
+                .from(todo)
+                .join(todoCount).on(todoCount.todoId.eq(todo.id))
+                .where(conditions)
+                .orderBy(todo.createdAt.desc(), todo.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        boolean hasNext = results.size() > pageable.getPageSize();
+        if (hasNext) {
+            results = results.subList(0, pageable.getPageSize());
+        }
+
+        return new SliceImpl<>(results, pageable, hasNext);
+    }
+
+    @Override
+    @Timed(value = "todo.search", extraTags = {"strategy", "TWO_PHASE"})
+    public Page<TodoSearchResponse> searchTodosTwoPhase(TodoSearchRequest request, Pageable pageable) {
+        Predicate[] conditions = searchConditions(request);
+        List<Long> ids = queryFactory
+                .select(todo.id)
+                .from(todo)
+                .where(conditions)
+                .orderBy(todo.createdAt.desc(), todo.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        Long total = getTotalCount(request);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, getTotalCount(request, conditions));
+        }
+
+        Map<Long, Tuple> rowsById = queryFactory
+                .select(todo.id, todo.title, todo.createdAt)
+                .from(todo)
+                .where(todo.id.in(ids))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(row -> row.get(todo.id), Function.identity()));
+
+        // 담당자/댓글 수는 비정규화 카운터 대신 자식 테이블을 페이지의 id 로만 묶어 센다 - 테이블당 GROUP BY 한 번
+        Map<Long, Long> managerCounts = countByTodoId(queryFactory
+                .select(manager.todo.id, manager.count())
+                .from(manager)
+                .where(manager.todo.id.in(ids))
+                .groupBy(manager.todo.id)
+                .fetch());
+        Map<Long, Long> commentCounts = countByTodoId(queryFactory
+                .select(comment.todo.id, comment.count())
+                .from(comment)
+                .where(comment.todo.id.in(ids))
+                .groupBy(comment.todo.id)
+                .fetch());
 
-        return new PageImpl<>(results, pageable, total != null ? total : 0L);
+        // IN 조회는 순서를 보장하지 않으므로 1단계의 정렬 순서로 되돌린다
+        List<TodoSearchResponse> results = ids.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .map(row -> new TodoSearchResponse(
+                        row.get(todo.id),
+                        row.get(todo.title),
+                        managerCounts.getOrDefault(row.get(todo.id), 0L),
+                        commentCounts.getOrDefault(row.get(todo.id), 0L),
+                        row.get(todo.createdAt)
+                ))
+                .toList();
+
+        return new PageImpl<>(results, pageable, getTotalCount(request, conditions));
+    }
+
+    @Override
+    public List<TodoResponse> findTodosByCursor(String weather, LocalDateTime start, LocalDateTime end, Cursor cursor, int limit) {
+        return queryFactory
+                .select(todoResponseProjection())
+                .from(todo)
+                .join(todo.user, user)
+                .where(
+                        eqWeather(weather),
+                        betweenModifiedAt(start, end),
+                        seek(todo.modifiedAt, cursor)
+                )
+                .orderBy(seekOrder(todo.modifiedAt, cursor))
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    @Timed(value = "todo.search", extraTags = {"strategy", "CURSOR"})
+    public List<TodoSearchResponse> searchTodosByCursor(TodoSearchRequest request, Cursor cursor, int limit) {
+        return queryFactory
+                .select(searchProjection())
+                .from(todo)
+                .join(todoCount).on(todoCount.todoId.eq(todo.id))
+                .where(searchConditions(request))
+                .where(seek(todo.createdAt, cursor))
+                .orderBy(seekOrder(todo.createdAt, cursor))
+                .limit(limit)
+                .fetch();
     }
 
     /**
-     * COUNT 쿼리 - 닉네임 검색이 있을 때만 JOIN 수행
+     * 엔티티 대신 DTO 생성자 프로젝션이라 영속성 컨텍스트에 아무것도 쌓이지 않아 행 수와 무관하게 힙이 일정하다.
      */
-    private Long getTotalCount(TodoSearchRequest request) {
-        JPAQuery<Long> countQuery = queryFactory
-                .select(todo.countDistinct())
-                .from(todo);
-
-        boolean hasNicknameCondition = request.getNickname() != null && !request.getNickname().isBlank();
+    @Override
+    public Stream<TodoExportRow> streamForExport(String weather, LocalDateTime start, LocalDateTime end, int fetchSize) {
+        return queryFactory
+                .select(Projections.constructor(
+                        TodoExportRow.class,
+                        todo.id,
+                        todo.title,
+                        todo.contents,
+                        todo.weather,
+                        todo.createdAt,
+                        todo.modifiedAt,
+                        user.id,
+                        user.email,
+                        user.nickname
+                ))
+                .from(todo)
+                .join(todo.user, user)
+                .where(
+                        eqWeather(weather),
+                        betweenModifiedAt(start, end)
+                )
+                .orderBy(todo.modifiedAt.desc(), todo.id.desc())
+                .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                .stream();
+    }
 
-        if (hasNicknameCondition) {
-            countQuery.leftJoin(todo.managers, manager)
-                    .leftJoin(manager.user, user);
-        }
+    /**
+     * COUNT 쿼리 - 닉네임 조건도 EXISTS 서브쿼리라 todos 외 조인 없음
+     * 같은 검색 조건의 결과는 TodoSearchCountCache 에서 재사용
+     */
+    private long getTotalCount(TodoSearchRequest request, Predicate[] conditions) {
+        return countCache.get(request, () -> queryFactory
+                .select(todo.count())
+                .from(todo)
+                .where(conditions)
+                .fetchOne());
+    }
 
-        return countQuery.where(
+    /**
+     * 검색 조건 - 제목 색인 보정 조회가 요청당 한 번만 실행되도록 데이터/count 쿼리가 같은 조건을 공유한다.
+     */
+    private Predicate[] searchConditions(TodoSearchRequest request) {
+        return new Predicate[]{
                 containsTitle(request.getTitle()),
-                hasNicknameCondition ? containsNickname(request.getNickname()) : null,
+                hasManagerNickname(request.getNickname()),
                 betweenCreatedAt(request.getStartDate(), request.getEndDate())
-        ).fetchOne();
+        };
     }
 
+    private static Map<Long, Long> countByTodoId(List<Tuple> rows) {
+        return rows.stream().collect(Collectors.toMap(row -> row.get(0, Long.class), row -> row.get(1, Long.class)));
+    }
+
+    private ConstructorExpression<TodoResponse> todoResponseProjection() {
+        return Projections.constructor(
+                TodoResponse.class,
+                todo.id,
+                todo.title,
+                todo.contents,
+                todo.weather,
+                Projections.constructor(UserResponse.class, user.id, user.email),
+                todo.createdAt,
+                todo.modifiedAt
+        );
+    }
+
+    /**
+     * 담당자/댓글 수는 todo_counts 의 비정규화 카운터를 PK 조인으로 읽어 자식 테이블 조인과 GROUP BY 를 피한다.
+     */
+    private QBean<TodoSearchResponse> searchProjection() {
+        return Projections.fields(
+                TodoSearchResponse.class,
+                todo.id.as("id"),
+                todo.title.as("title"),
+                todoCount.managerCount.as("managerCount"),
+                todoCount.commentCount.as("commentCount"),
+                todo.createdAt.as("createdAt")
+        );
+    }
+
+    /**
+     * trigram 색인이 있으면 id 후보로 먼저 좁혀 like 가 전체 행을 훑지 않게 한다.
+     * 색인 반영이 보장되지 않은 구간(id > maxIndexedId)은 PK 범위 조회로 따로 like 를 판단해 후보에 더한다.
+     * id IN (후보) OR id > maxIndexedId 를 한 문장에 두면 OR 범위를 합치지 못하는 옵티마이저(H2 등)가 todos 를 풀스캔한다.
+     */
     private BooleanExpression containsTitle(String title) {
-        return (title == null || title.isBlank()) ? null : todo.title.containsIgnoreCase(title);
+        if (title == null || title.isBlank()) {
+            return null;
+        }
+        BooleanExpression contains = todo.title.containsIgnoreCase(title);
+
+        IndexCandidates candidates = searchIndexService.findTodoCandidatesByTitle(title);
+        if (candidates == null) {
+            return contains;
+        }
+        List<Long> unindexedIds = queryFactory
+                .select(todo.id)
+                .from(todo)
+                .where(todo.id.gt(candidates.getMaxIndexedId()), contains)
+                .fetch();
+        return todo.id.in(Stream.concat(candidates.getIds().stream(), unindexedIds.stream()).toList()).and(contains);
+    }
+
+    /**
+     * 닉네임이 일치하는 담당자가 한 명이라도 있는 일정 - 조인 대신 EXISTS 로 행 증폭을 막는다.
+     * users 는 managers 에서 PK 로 찾아 들어가므로 제목과 달리 OR 경계 조건이 스캔 범위를 넓히지 않는다.
+     */
+    private BooleanExpression hasManagerNickname(String nickname) {
+        if (nickname == null || nickname.isBlank()) {
+            return null;
+        }
+        BooleanExpression contains = user.nickname.containsIgnoreCase(nickname);
+
+        IndexCandidates candidates = searchIndexService.findUserCandidatesByNickname(nickname);
+        if (candidates != null) {
+            contains = user.id.in(candidates.getIds()).or(user.id.gt(candidates.getMaxIndexedId())).and(contains);
+        }
+
+        return JPAExpressions
+                .selectOne()
+                .from(manager)
+                .join(manager.user, user)
+                .where(
+                        manager.todo.id.eq(todo.id),
+                        contains
+                )
+                .exists();
+    }
+
+    private BooleanExpression eqWeather(String weather) {
+        return weather == null ? null : todo.weather.eq(weather);
     }
 
-    private BooleanExpression containsNickname(String nickname) {
-        return (nickname == null || nickname.isBlank()) ? null : user.nickname.containsIgnoreCase(nickname);
+    private BooleanExpression betweenModifiedAt(LocalDateTime start, LocalDateTime end) {
+        if (start == null && end == null) {
+            return null;
+        }
+        if (start == null) {
+            return todo.modifiedAt.loe(end);
+        }
+        if (end == null) {
+            return todo.modifiedAt.goe(start);
+        }
+        return todo.modifiedAt.between(start, end);
+    }
+
+    /**
+     * 커서 위치 이후만 남기는 조건 - 건너뛴 행을 읽고 버리는 offset 과 달리 인덱스에서 바로 시작 위치를 찾는다.
+     * OR 조건만으로는 인덱스 범위를 잡지 못하는 옵티마이저가 있어 같은 의미의 범위 조건(at <= / >=)을 앞에 둔다.
+     */
+    private BooleanExpression seek(DateTimePath<LocalDateTime> at, Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        if (cursor.isPrev()) {
+            return at.goe(cursor.getAt())
+                    .and(at.gt(cursor.getAt()).or(at.eq(cursor.getAt()).and(todo.id.gt(cursor.getId()))));
+        }
+        return at.loe(cursor.getAt())
+                .and(at.lt(cursor.getAt()).or(at.eq(cursor.getAt()).and(todo.id.lt(cursor.getId()))));
+    }
+
+    private OrderSpecifier<?>[] seekOrder(DateTimePath<LocalDateTime> at, Cursor cursor) {
+        if (cursor != null && cursor.isPrev()) {
+            return new OrderSpecifier<?>[]{at.asc(), todo.id.asc()};
+        }
+        return new OrderSpecifier<?>[]{at.desc(), todo.id.desc()};
     }
 
     private BooleanExpression betweenCreatedAt(LocalDateTime startDate, LocalDateTime endDate) {
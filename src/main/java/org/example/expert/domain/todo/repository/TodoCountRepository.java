@@ -0,0 +1,50 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.entity.TodoCount;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * 벌크 UPDATE 는 대상 엔티티의 2차 캐시 리전과 해당 테이블을 읽는 쿼리 캐시만 무효화한다.
+ * todo_counts 는 캐시하지 않으므로 카운터 증감이 todo 리전과 findTodoResponseById 캐시를 비우지 않는다.
+ */
+public interface TodoCountRepository extends JpaRepository<TodoCount, Long> {
+
+    /**
+     * 카운터 증감은 읽고-쓰기 대신 DB 에서 원자적으로 수행해 동시 요청에도 유실되지 않게 한다.
+     * 드리프트로 0 아래로 내려가는 감소는 0 에서 멈추되, 목록은 바뀌었으므로 버전은 항상 올린다. (ETag 갱신)
+     */
+    @Modifying
+    @Query("""
+    UPDATE TodoCount c SET c.managerCount = GREATEST(c.managerCount + :delta, 0), c.managerVersion = c.managerVersion + 1
+    WHERE c.todoId = :todoId
+""")
+    int addManagerCount(@Param("todoId") Long todoId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("""
+    UPDATE TodoCount c SET c.commentCount = GREATEST(c.commentCount + :delta, 0), c.commentVersion = c.commentVersion + 1
+    WHERE c.todoId = :todoId
+""")
+    int addCommentCount(@Param("todoId") Long todoId, @Param("delta") long delta);
+
+    @Query("SELECT c.todoId FROM TodoCount c WHERE c.todoId > :lastId ORDER BY c.todoId ASC")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 실제 자식 행 수로 카운터를 다시 맞춘다. 드리프트 보정용 배치에서 id 구간 단위로 호출한다.
+     */
+    @Modifying
+    @Query("""
+    UPDATE TodoCount c
+    SET c.managerCount = (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = c.todoId),
+        c.commentCount = (SELECT COUNT(cm) FROM Comment cm WHERE cm.todo.id = c.todoId)
+    WHERE c.todoId BETWEEN :fromId AND :toId
+""")
+    int recountBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
@@ -1,32 +1,105 @@
 package org.example.expert.domain.todo.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.config.HibernateCacheConfig;
+import org.example.expert.domain.todo.dto.TodoVersion;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
 
-    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    // 기간 조건이 없을 때 대신 쓰는 경계값 - 항상 modifiedAt 범위 조건이 걸리도록 해 인덱스를 타게 한다.
+    LocalDateTime MIN_MODIFIED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    LocalDateTime MAX_MODIFIED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
 
-    @EntityGraph(attributePaths = {"user"})
+    /**
+     * 생성자 프로젝션 조회 - 엔티티/컬렉션 프록시/스냅샷 없이 응답 DTO 로 바로 읽는다.
+     */
     @Query("""
-    SELECT t FROM Todo t
-    WHERE (:weather IS NULL OR t.weather = :weather)
-      AND (:start IS NULL OR t.modifiedAt >= :start)
-      AND (:end IS NULL OR t.modifiedAt <= :end)
-    ORDER BY t.modifiedAt DESC
+    SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(
+        t.id, t.title, t.contents, t.weather,
+        new org.example.expert.domain.user.dto.response.UserResponse(u.id, u.email),
+        t.createdAt, t.modifiedAt)
+    FROM Todo t JOIN t.user u
+    WHERE t.id = :todoId
 """)
-    Page<Todo> findByParams(
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = HibernateCacheConfig.TODO_QUERY_REGION)
+    })
+    Optional<TodoResponse> findTodoResponseById(@Param("todoId") Long todoId);
+
+    /**
+     * (:param IS NULL OR ...) 형태는 옵티마이저가 인덱스를 고르지 못하므로
+     * 날씨 유무에 따라 쿼리를 나누고 기간은 항상 BETWEEN 으로 건다.
+     */
+    default Page<TodoResponse> findTodoResponsesByParams(String weather, LocalDateTime start, LocalDateTime end, Pageable pageable) {
+        LocalDateTime from = start == null ? MIN_MODIFIED_AT : start;
+        LocalDateTime to = end == null ? MAX_MODIFIED_AT : end;
+        return weather == null
+                ? findTodoResponsesByModifiedAt(from, to, pageable)
+                : findTodoResponsesByWeatherAndModifiedAt(weather, from, to, pageable);
+    }
+
+    @Query(value = """
+    SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(
+        t.id, t.title, t.contents, t.weather,
+        new org.example.expert.domain.user.dto.response.UserResponse(u.id, u.email),
+        t.createdAt, t.modifiedAt)
+    FROM Todo t JOIN t.user u
+    WHERE t.modifiedAt BETWEEN :start AND :end
+    ORDER BY t.modifiedAt DESC, t.id DESC
+""", countQuery = """
+    SELECT COUNT(t) FROM Todo t
+    WHERE t.modifiedAt BETWEEN :start AND :end
+""")
+    Page<TodoResponse> findTodoResponsesByModifiedAt(
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            Pageable pageable
+    );
+
+    @Query(value = """
+    SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(
+        t.id, t.title, t.contents, t.weather,
+        new org.example.expert.domain.user.dto.response.UserResponse(u.id, u.email),
+        t.createdAt, t.modifiedAt)
+    FROM Todo t JOIN t.user u
+    WHERE t.weather = :weather
+      AND t.modifiedAt BETWEEN :start AND :end
+    ORDER BY t.modifiedAt DESC, t.id DESC
+""", countQuery = """
+    SELECT COUNT(t) FROM Todo t
+    WHERE t.weather = :weather
+      AND t.modifiedAt BETWEEN :start AND :end
+""")
+    Page<TodoResponse> findTodoResponsesByWeatherAndModifiedAt(
             @Param("weather") String weather,
             @Param("start") LocalDateTime start,
             @Param("end") LocalDateTime end,
             Pageable pageable
     );
-}
 
+    /**
+     * 조건부 GET 용 버전 조회 - PK 한 건의 스칼라만 읽는다. (todos / todo_counts 가 바뀌면 쿼리 캐시가 무효화됨)
+     */
+    @Query("""
+    SELECT new org.example.expert.domain.todo.dto.TodoVersion(t.id, t.modifiedAt, c.commentVersion, c.managerVersion)
+    FROM TodoCount c JOIN c.todo t
+    WHERE c.todoId = :todoId
+""")
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = HibernateCacheConfig.TODO_QUERY_REGION)
+    })
+    Optional<TodoVersion> findVersionById(@Param("todoId") Long todoId);
+}
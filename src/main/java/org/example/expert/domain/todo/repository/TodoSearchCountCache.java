@@ -0,0 +1,65 @@
+package org.example.expert.domain.todo.repository;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.annotation.Timed;
+import org.example.expert.cache.support.AsyncCacheLoader;
+import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * 검색 조건별 전체 건수 캐시
+ * 같은 검색의 2페이지 이후에는 count 쿼리를 다시 실행하지 않는다.
+ * 일정 저장/수정이 커밋되면 전체 무효화, 그 외 변경(담당자 등록/삭제)은 TTL 안에서만 오차를 허용한다.
+ */
+@Component
+public class TodoSearchCountCache {
+
+    // count 쿼리는 캐시 락 밖에서 실행 (AsyncCacheLoader)
+    private final AsyncCache<String, Long> cache;
+
+    public TodoSearchCountCache(
+            @Value("${todo.search.count-cache.ttl:30s}") Duration ttl,
+            @Value("${todo.search.count-cache.max-size:10000}") long maxSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .buildAsync();
+    }
+
+    // QTodoRepositoryImpl.getTotalCount 의 지연 (캐시 적중 포함)
+    @Timed("todo.search.count")
+    public long get(TodoSearchRequest request, Supplier<Long> loader) {
+        return AsyncCacheLoader.get(cache, key(request), k -> {
+            Long loaded = loader.get();
+            return loaded != null ? loaded : 0L;
+        });
+    }
+
+    @TransactionalEventListener
+    public void onTodoSaved(TodoSavedEvent event) {
+        cache.synchronous().invalidateAll();
+    }
+
+    /**
+     * 제목/닉네임은 대소문자 무시 부분 일치라 소문자로, 빈 값은 조건 없음으로 정규화
+     */
+    private String key(TodoSearchRequest request) {
+        return normalize(request.getTitle()) + '\u0000'
+                + normalize(request.getNickname()) + '\u0000'
+                + request.getStartDate() + '\u0000'
+                + request.getEndDate();
+    }
+
+    private String normalize(String value) {
+        return (value == null || value.isBlank()) ? "" : value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoRecountResponse;
+import org.example.expert.domain.todo.repository.TodoCountRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * TodoCount 의 managerCount / commentCount 드리프트 보정
+ * id 순으로 chunk 단위로 끊어 청크마다 별도 트랜잭션으로 커밋한다. (긴 락/트랜잭션 방지)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoCountService {
+
+    private static final int MAX_CHUNK_SIZE = 10_000;
+
+    private final TodoCountRepository todoCountRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public TodoRecountResponse recountAll(int chunkSize) {
+        if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new InvalidRequestException("chunkSize 는 1 이상 " + MAX_CHUNK_SIZE + " 이하여야 합니다.");
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new InvalidRequestException("카운터 재계산이 이미 진행 중입니다.");
+        }
+
+        try {
+            int chunks = 0;
+            long updated = 0;
+            long lastId = 0L;
+
+            while (true) {
+                List<Long> ids = todoCountRepository.findIdsAfter(lastId, PageRequest.of(0, chunkSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                Long fromId = ids.get(0);
+                Long toId = ids.get(ids.size() - 1);
+                Integer count = transactionTemplate.execute(status -> todoCountRepository.recountBetween(fromId, toId));
+
+                chunks++;
+                updated += count != null ? count : 0;
+                lastId = toId;
+            }
+
+            log.info("Todo 카운터 재계산 완료 - chunks: {}, updated: {}", chunks, updated);
+            return new TodoRecountResponse(chunks, updated);
+        } finally {
+            running.set(false);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.response.TodoExportRow;
+import org.example.expert.domain.todo.enums.TodoExportFormat;
+import org.example.expert.domain.todo.repository.QTodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 일정 전체 내보내기 - 커서로 한 행씩 읽어 바로 응답 스트림에 쓰므로 결과 전체를 메모리에 올리지 않는다.
+ * MySQL 서버 커서는 datasource 의 useCursorFetch=true 로 켜져 있다. (앱 전체의 prepare 방식도 바뀐다 - application.yml)
+ */
+@Slf4j
+@Service
+public class TodoExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER = "id,title,contents,weather,createdAt,modifiedAt,userId,userEmail,userNickname";
+
+    private final QTodoRepository qTodoRepository;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public TodoExportService(
+            QTodoRepository qTodoRepository,
+            ObjectMapper objectMapper,
+            @Value("${todo.export.fetch-size:1000}") int fetchSize
+    ) {
+        this.qTodoRepository = qTodoRepository;
+        this.objectMapper = objectMapper.copy().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.fetchSize = fetchSize;
+    }
+
+    @Transactional(readOnly = true)
+    public long export(TodoExportFormat format, String weather, LocalDateTime start, LocalDateTime end, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        long count;
+        try (Stream<TodoExportRow> rows = qTodoRepository.streamForExport(weather, start, end, fetchSize)) {
+            count = format == TodoExportFormat.CSV
+                    ? writeCsv(rows.iterator(), writer)
+                    : writeNdjson(rows.iterator(), writer);
+        }
+        writer.flush();
+
+        log.info("일정 내보내기 완료 - format: {}, rows: {}", format, count);
+        return count;
+    }
+
+    private long writeNdjson(Iterator<TodoExportRow> rows, Writer writer) throws IOException {
+        long count = 0;
+        try (SequenceWriter sequenceWriter = objectMapper.writer().withRootValueSeparator("\n").writeValues(writer)) {
+            while (rows.hasNext()) {
+                sequenceWriter.write(rows.next());
+                count++;
+            }
+        }
+        if (count > 0) {
+            writer.write('\n');
+        }
+        return count;
+    }
+
+    private long writeCsv(Iterator<TodoExportRow> rows, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        long count = 0;
+        while (rows.hasNext()) {
+            TodoExportRow row = rows.next();
+            writeCsvField(writer, row.getId());
+            writer.write(',');
+            writeCsvField(writer, row.getTitle());
+            writer.write(',');
+            writeCsvField(writer, row.getContents());
+            writer.write(',');
+            writeCsvField(writer, row.getWeather());
+            writer.write(',');
+            writeCsvField(writer, row.getCreatedAt());
+            writer.write(',');
+            writeCsvField(writer, row.getModifiedAt());
+            writer.write(',');
+            writeCsvField(writer, row.getUserId());
+            writer.write(',');
+            writeCsvField(writer, row.getUserEmail());
+            writer.write(',');
+            writeCsvField(writer, row.getUserNickname());
+            writer.write('\n');
+            count++;
+        }
+        return count;
+    }
+
+    // RFC 4180 - 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 두 번 쓴다.
+    private void writeCsvField(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
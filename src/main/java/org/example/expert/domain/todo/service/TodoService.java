@@ -2,47 +2,77 @@ package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.TodoVersion;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoCount;
+import org.example.expert.domain.todo.enums.TodoSearchStrategy;
+import org.example.expert.domain.todo.event.TodoWeatherPendingEvent;
 import org.example.expert.domain.todo.repository.QTodoRepository;
+import org.example.expert.domain.todo.repository.TodoCountRepository;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.security.CustomUserDetails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class TodoService {
 
     private final TodoRepository todoRepository;
+    private final TodoCountRepository todoCountRepository;
     private final WeatherClient weatherClient;
     private final QTodoRepository qTodoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    private static final int MAX_CURSOR_SIZE = 100;
+
+    @Value("${todo.search.strategy:SINGLE_QUERY}")
+    private TodoSearchStrategy searchStrategy;
+
+    /**
+     * 날씨는 트랜잭션(커넥션)을 열기 전에 받아둔 데이터에서만 찾는다.
+     * 아직 없으면 날씨 없이 저장하고 커밋 이후 비동기로 채운다. (TodoWeatherService)
+     */
     public TodoSaveResponse saveTodo(CustomUserDetails customUserDetails, TodoSaveRequest todoSaveRequest) {
         User user = User.fromCustomUserDetails(customUserDetails);
 
-        String weather = weatherClient.getTodayWeather();
+        String weather = weatherClient.findCachedTodayWeather();
 
-        Todo newTodo = new Todo(
-                todoSaveRequest.getTitle(),
-                todoSaveRequest.getContents(),
-                weather,
-                user
-        );
-        Todo savedTodo = todoRepository.save(newTodo);
+        Todo savedTodo = transactionTemplate.execute(status -> {
+            Todo newTodo = new Todo(
+                    todoSaveRequest.getTitle(),
+                    todoSaveRequest.getContents(),
+                    weather,
+                    user
+            );
+            Todo saved = todoRepository.save(newTodo);
+            todoCountRepository.save(new TodoCount(saved));
+            if (weather == null) {
+                eventPublisher.publishEvent(new TodoWeatherPendingEvent(saved.getId()));
+            }
+            return saved;
+        });
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -57,39 +87,55 @@ public class TodoService {
     public Page<TodoResponse> getTodos(int page, int size, String weather, LocalDateTime start, LocalDateTime end) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findByParams(weather, start, end, pageable);
-
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        return todoRepository.findTodoResponsesByParams(weather, start, end, pageable);
     }
 
     @Transactional(readOnly = true)
-    public TodoResponse getTodo(long todoId) {
-        Todo todo = qTodoRepository.findByIdWithUser(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+    public CursorResponse<TodoResponse> getTodosByCursor(String cursorValue, int size, String weather, LocalDateTime start, LocalDateTime end) {
+        Cursor cursor = Cursor.decode(cursorValue);
+        int limit = Math.min(Math.max(size, 1), MAX_CURSOR_SIZE);
 
-        User user = todo.getUser();
+        List<TodoResponse> rows = qTodoRepository.findTodosByCursor(weather, start, end, cursor, limit + 1);
 
-        return new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        );
+        return CursorResponse.of(rows, limit, cursor, TodoResponse::getModifiedAt, TodoResponse::getId);
+    }
+
+    /**
+     * 조건부 GET 용 ETag - 일정이 없으면 null (본문 조회에서 예외 처리)
+     */
+    @Transactional(readOnly = true)
+    public String getTodoEtag(long todoId) {
+        return todoRepository.findVersionById(todoId)
+                .map(TodoVersion::todoEtag)
+                .orElse(null);
+    }
+
+    @Transactional(readOnly = true)
+    public TodoResponse getTodo(long todoId) {
+        return todoRepository.findTodoResponseById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
     }
 
     @Transactional(readOnly = true)
     public Page<TodoSearchResponse> searchTodos(TodoSearchRequest request, Pageable pageable) {
+        if (searchStrategy == TodoSearchStrategy.TWO_PHASE) {
+            return qTodoRepository.searchTodosTwoPhase(request, pageable);
+        }
         return qTodoRepository.searchTodos(request, pageable);
     }
+
+    @Transactional(readOnly = true)
+    public Slice<TodoSearchResponse> searchTodosSlice(TodoSearchRequest request, Pageable pageable) {
+        return qTodoRepository.searchTodosSlice(request, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorResponse<TodoSearchResponse> searchTodosByCursor(TodoSearchRequest request, String cursorValue, int size) {
+        Cursor cursor = Cursor.decode(cursorValue);
+        int limit = Math.min(Math.max(size, 1), MAX_CURSOR_SIZE);
+
+        List<TodoSearchResponse> rows = qTodoRepository.searchTodosByCursor(request, cursor, limit + 1);
+
+        return CursorResponse.of(rows, limit, cursor, TodoSearchResponse::getCreatedAt, TodoSearchResponse::getId);
+    }
 }
@@ -0,0 +1,44 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.todo.event.TodoWeatherPendingEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 저장 시점에 날씨를 몰랐던 일정의 날씨 채우기
+ * 날씨 API 호출은 트랜잭션 밖에서 하고, 결과만 짧은 트랜잭션으로 반영해 API 가 느려도 커넥션을 잡고 있지 않는다.
+ * 날씨를 받지 못하면(실패/서킷 열림/오늘 날짜 없음) "Unknown" 을 저장하지 않고 비워 둔다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoWeatherService {
+
+    private final WeatherClient weatherClient;
+    private final TodoRepository todoRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Async
+    @TransactionalEventListener
+    public void onWeatherPending(TodoWeatherPendingEvent event) {
+        String weather;
+        try {
+            weather = weatherClient.loadTodayWeather();
+        } catch (RuntimeException e) {
+            log.warn("일정 날씨 채우기 실패 - todoId: {}", event.getTodoId(), e);
+            return;
+        }
+        if (weather == null) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> todoRepository.findById(event.getTodoId())
+                .ifPresent(todo -> todo.enrichWeather(weather)));
+    }
+}
@@ -1,21 +1,50 @@
 package org.example.expert.domain.user.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserImportResponse;
+import org.example.expert.domain.user.enums.UserImportFormat;
 import org.example.expert.domain.user.service.UserAdminService;
+import org.example.expert.domain.user.service.UserImportService;
+import org.example.expert.querybudget.annotation.QueryBudget;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+
 @RestController
 @RequiredArgsConstructor
 public class UserAdminController {
 
     private final UserAdminService userAdminService;
+    private final UserImportService userImportService;
 
     @PatchMapping("/admin/users/{userId}")
+    @QueryBudget(2)
     public void changeUserRole(@PathVariable long userId, @RequestBody UserRoleChangeRequest userRoleChangeRequest) {
         userAdminService.changeUserRole(userId, userRoleChangeRequest);
     }
+
+    @PostMapping("/admin/users/{userId}/tokens/revoke")
+    @QueryBudget(1)
+    public void revokeTokens(@PathVariable long userId) {
+        userAdminService.revokeTokens(userId);
+    }
+
+    /**
+     * 본문(NDJSON 또는 헤더가 있는 CSV)을 메모리에 올리지 않고 요청 스트림에서 바로 읽는다.
+     */
+    @PostMapping("/admin/users/import")
+    @QueryBudget(value = 3, bulk = true)
+    public UserImportResponse importUsers(
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletRequest request
+    ) throws IOException {
+        return userImportService.importUsers(UserImportFormat.of(format), request.getInputStream());
+    }
 }
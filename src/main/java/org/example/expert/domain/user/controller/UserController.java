@@ -6,6 +6,7 @@ import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.service.UserService;
+import org.example.expert.querybudget.annotation.QueryBudget;
 import org.example.expert.security.CustomUserDetails;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -18,11 +19,13 @@ public class UserController {
     private final UserService userService;
 
     @GetMapping("/users/{userId}")
+    @QueryBudget(1)
     public ResponseEntity<UserResponse> getUser(@PathVariable long userId) {
         return ResponseEntity.ok(userService.getUser(userId));
     }
 
     @PutMapping("/users")
+    @QueryBudget(2)
     public void changePassword(@AuthenticationPrincipal CustomUserDetails customUserDetails, @RequestBody UserChangePasswordRequest userChangePasswordRequest) {
         userService.changePassword(customUserDetails.getId(), userChangePasswordRequest);
     }
@@ -0,0 +1,24 @@
+package org.example.expert.domain.user.dto.request;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대량 가입 한 행 - NDJSON 한 줄 또는 CSV 한 행 (email,password,userRole,nickname)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportRow {
+
+    @NotBlank @Email
+    private String email;
+    @NotBlank
+    private String password;
+    @NotBlank
+    private String userRole;
+    private String nickname;
+}
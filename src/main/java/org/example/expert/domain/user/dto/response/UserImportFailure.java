@@ -0,0 +1,18 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class UserImportFailure {
+
+    // 입력의 몇 번째 줄인지 (1부터, CSV 헤더 포함)
+    private final long line;
+    private final String email;
+    private final String reason;
+
+    public UserImportFailure(long line, String email, String reason) {
+        this.line = line;
+        this.email = email;
+        this.reason = reason;
+    }
+}
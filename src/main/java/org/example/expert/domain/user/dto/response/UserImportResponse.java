@@ -0,0 +1,22 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class UserImportResponse {
+
+    private final long total;
+    private final long imported;
+    private final long failed;
+    // 실패 행 상세 - 최대 개수를 넘으면 앞쪽만 담고 failed 에는 전체 개수를 센다
+    private final List<UserImportFailure> failures;
+
+    public UserImportResponse(long total, long imported, long failed, List<UserImportFailure> failures) {
+        this.total = total;
+        this.imported = imported;
+        this.failed = failed;
+        this.failures = failures;
+    }
+}
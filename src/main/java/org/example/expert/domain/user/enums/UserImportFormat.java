@@ -0,0 +1,16 @@
+package org.example.expert.domain.user.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.Arrays;
+
+public enum UserImportFormat {
+    NDJSON, CSV;
+
+    public static UserImportFormat of(String format) {
+        return Arrays.stream(UserImportFormat.values())
+                .filter(f -> f.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("지원하지 않는 가져오기 형식입니다."));
+    }
+}
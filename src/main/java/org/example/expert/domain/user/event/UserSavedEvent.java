@@ -0,0 +1,18 @@
+package org.example.expert.domain.user.event;
+
+import lombok.Getter;
+
+/**
+ * 유저 저장 이벤트 - 커밋 이후 처리(@TransactionalEventListener)용
+ */
+@Getter
+public class UserSavedEvent {
+
+    private final Long userId;
+    private final String nickname;
+
+    public UserSavedEvent(Long userId, String nickname) {
+        this.userId = userId;
+        this.nickname = nickname;
+    }
+}
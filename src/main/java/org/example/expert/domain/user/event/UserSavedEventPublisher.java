@@ -0,0 +1,25 @@
+package org.example.expert.domain.user.event;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * User 엔티티 리스너 - insert/update 가 실행될 때마다 UserSavedEvent 를 발행한다. (닉네임 변경도 색인에 반영)
+ * JDBC 배치로 넣는 경로(UserImportService)는 엔티티를 거치지 않으므로 직접 발행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserSavedEventPublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void publish(User user) {
+        eventPublisher.publishEvent(new UserSavedEvent(user.getId(), user.getNickname()));
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.expert.domain.user.event;
+
+import lombok.Getter;
+
+/**
+ * 유저 권한/비밀번호 변경 이벤트 - 커밋 이후 인증 주체 캐시 무효화용
+ */
+@Getter
+public class UserUpdatedEvent {
+
+    private final Long userId;
+
+    public UserUpdatedEvent(Long userId) {
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.expert.domain.user.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대량 가입용 JDBC 배치 insert
+ * users.id 가 IDENTITY 라 JdbcTemplate 으로 직접 넣는다. (datasource 의 rewriteBatchedStatements - application.yml)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserBulkRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO users (email, password, user_role, nickname, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void insertAll(List<NewUser> users, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(INSERT_SQL, users, users.size(), (ps, user) -> {
+            ps.setString(1, user.getEmail());
+            ps.setString(2, user.getPassword());
+            ps.setString(3, user.getUserRole().name());
+            ps.setString(4, user.getNickname());
+            ps.setTimestamp(5, timestamp);
+            ps.setTimestamp(6, timestamp);
+        });
+    }
+
+    /**
+     * 배치 insert 는 생성된 키를 이식성 있게 돌려주지 않으므로 이메일로 다시 조회한다.
+     */
+    public Map<String, Long> findIdsByEmails(Collection<String> emails) {
+        Map<String, Long> ids = new HashMap<>();
+        namedParameterJdbcTemplate.query(
+                "SELECT id, email FROM users WHERE email IN (:emails)",
+                new MapSqlParameterSource("emails", emails),
+                rs -> {
+                    ids.put(rs.getString("email"), rs.getLong("id"));
+                }
+        );
+        return ids;
+    }
+
+    @Getter
+    public static class NewUser {
+
+        private final String email;
+        private final String password;
+        private final UserRole userRole;
+        private final String nickname;
+
+        public NewUser(String email, String password, UserRole userRole, String nickname) {
+            this.email = email;
+            this.password = password;
+            this.userRole = userRole;
+            this.nickname = nickname;
+        }
+    }
+}
@@ -5,7 +5,10 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.event.UserUpdatedEvent;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.security.TokenRevocationStore;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,10 +17,23 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserAdminService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TokenRevocationStore tokenRevocationStore;
 
     @Transactional
     public void changeUserRole(long userId, UserRoleChangeRequest userRoleChangeRequest) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
+        eventPublisher.publishEvent(new UserUpdatedEvent(user.getId()));
+    }
+
+    /**
+     * 사용자의 기존 토큰 전체 폐기 (계정 탈취 대응 등) - 다시 로그인해야 한다.
+     */
+    public void revokeTokens(long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new InvalidRequestException("User not found");
+        }
+        tokenRevocationStore.revokeAll(userId);
     }
 }
@@ -0,0 +1,321 @@
+package org.example.expert.domain.user.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserImportRow;
+import org.example.expert.domain.user.dto.response.UserImportFailure;
+import org.example.expert.domain.user.dto.response.UserImportResponse;
+import org.example.expert.domain.user.enums.UserImportFormat;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.event.UserSavedEvent;
+import org.example.expert.domain.user.repository.UserBulkRepository;
+import org.example.expert.domain.user.repository.UserBulkRepository.NewUser;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.security.PasswordHasher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 대량 가입 - 입력을 한 줄씩 읽어 chunk 단위로 처리한다.
+ * 청크마다 이메일 중복은 IN 조회 한 번, 비밀번호는 PasswordHasher 로 병렬 해시, 저장은 JDBC 배치 insert 로 한 트랜잭션에 커밋한다.
+ * 잘못된 행은 건너뛰고 실패 목록에 남길 뿐 전체 가져오기를 중단하지 않는다.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_CHUNK_SIZE = 10_000;
+    private static final String DUPLICATE_EMAIL = "이미 존재하는 이메일입니다.";
+
+    private final UserRepository userRepository;
+    private final UserBulkRepository userBulkRepository;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+    private final int maxReportedFailures;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public UserImportService(
+            UserRepository userRepository,
+            UserBulkRepository userBulkRepository,
+            PasswordHasher passwordHasher,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            Validator validator,
+            @Value("${user.import.chunk-size:500}") int chunkSize,
+            @Value("${user.import.max-reported-failures:1000}") int maxReportedFailures
+    ) {
+        if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("user.import.chunk-size 는 1 이상 " + MAX_CHUNK_SIZE + " 이하여야 합니다.");
+        }
+        this.userRepository = userRepository;
+        this.userBulkRepository = userBulkRepository;
+        this.passwordHasher = passwordHasher;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.maxReportedFailures = maxReportedFailures;
+    }
+
+    public UserImportResponse importUsers(UserImportFormat format, InputStream in) throws IOException {
+        if (!running.compareAndSet(false, true)) {
+            throw new InvalidRequestException("대량 가입이 이미 진행 중입니다.");
+        }
+
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+            ImportResult result = new ImportResult(maxReportedFailures);
+            List<ImportLine> chunk = new ArrayList<>(chunkSize);
+            Map<String, Integer> csvColumns = null;
+
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == UserImportFormat.CSV && csvColumns == null) {
+                    csvColumns = parseCsvHeader(line);
+                    continue;
+                }
+
+                result.total++;
+                try {
+                    UserImportRow row = format == UserImportFormat.CSV ? parseCsvRow(line, csvColumns) : parseJsonRow(line);
+                    chunk.add(new ImportLine(lineNumber, row));
+                } catch (IllegalArgumentException e) {
+                    result.fail(lineNumber, null, e.getMessage());
+                }
+
+                if (chunk.size() == chunkSize) {
+                    processChunk(chunk, result);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(chunk, result);
+            }
+
+            log.info("대량 가입 완료 - format: {}, total: {}, imported: {}, failed: {}",
+                    format, result.total, result.imported, result.failed);
+            return new UserImportResponse(result.total, result.imported, result.failed, result.failures);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void processChunk(List<ImportLine> lines, ImportResult result) {
+        // 형식 검증 + 파일 안 중복 제거 (먼저 나온 행을 살린다)
+        // DB collation 이 대소문자를 구분하지 않으므로 소문자로 맞춘 이메일을 키로 쓴다
+        Map<String, ImportLine> accepted = new LinkedHashMap<>();
+        for (ImportLine line : lines) {
+            String reason = validate(line);
+            if (reason == null && accepted.putIfAbsent(emailKey(line.row.getEmail()), line) != null) {
+                reason = "파일 안에서 중복된 이메일입니다.";
+            }
+            if (reason != null) {
+                result.fail(line.number, line.row.getEmail(), reason);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        List<String> emails = accepted.values().stream().map(line -> line.row.getEmail()).toList();
+        for (String existing : userRepository.findExistingEmails(emails)) {
+            // 대소문자만 다른 이메일도 DB 에서는 같은 값으로 찾아진다 - 키로 맞추지 못한 값(악센트 차이 등)은 insert 의 유니크 제약이 걸러낸다
+            ImportLine line = accepted.remove(emailKey(existing));
+            if (line != null) {
+                result.fail(line.number, line.row.getEmail(), DUPLICATE_EMAIL);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        // 해시는 트랜잭션 밖에서 - 계산하는 동안 커넥션을 잡고 있지 않는다
+        List<ImportLine> targets = new ArrayList<>(accepted.values());
+        List<String> hashes = passwordHasher.encodeAll(targets.stream().map(line -> line.row.getPassword()).toList());
+        List<NewUser> users = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            ImportLine line = targets.get(i);
+            users.add(new NewUser(line.row.getEmail(), hashes.get(i), line.userRole, line.row.getNickname()));
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(users));
+            result.imported += users.size();
+        } catch (DataIntegrityViolationException e) {
+            // 중복 확인과 insert 사이에 같은 이메일이 가입된 경우 - 행 단위로 다시 넣어 실패한 행만 골라낸다
+            for (int i = 0; i < users.size(); i++) {
+                NewUser user = users.get(i);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(List.of(user)));
+                    result.imported++;
+                } catch (DataIntegrityViolationException duplicate) {
+                    result.fail(targets.get(i).number, user.getEmail(), DUPLICATE_EMAIL);
+                }
+            }
+        }
+    }
+
+    private void insert(List<NewUser> users) {
+        userBulkRepository.insertAll(users, LocalDateTime.now());
+
+        // 닉네임 검색 색인 등 가입 후처리 - 커밋 이후에 반영된다
+        Map<String, Long> ids = userBulkRepository.findIdsByEmails(users.stream().map(NewUser::getEmail).toList());
+        for (NewUser user : users) {
+            eventPublisher.publishEvent(new UserSavedEvent(ids.get(user.getEmail()), user.getNickname()));
+        }
+    }
+
+    private static String emailKey(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return 실패 사유, 통과하면 null
+     */
+    private String validate(ImportLine line) {
+        Set<ConstraintViolation<UserImportRow>> violations = validator.validate(line.row);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<UserImportRow> violation = violations.iterator().next();
+            return violation.getPropertyPath() + ": " + violation.getMessage();
+        }
+        try {
+            line.userRole = UserRole.of(line.row.getUserRole());
+        } catch (InvalidRequestException e) {
+            return e.getMessage();
+        }
+        return null;
+    }
+
+    private UserImportRow parseJsonRow(String line) {
+        try {
+            return objectMapper.readValue(line, UserImportRow.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private Map<String, Integer> parseCsvHeader(String line) {
+        List<String> names = parseCsvFields(line);
+        Map<String, Integer> columns = new LinkedHashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim(), i);
+        }
+        if (!columns.keySet().containsAll(List.of("email", "password", "userRole"))) {
+            throw new InvalidRequestException("CSV 헤더에 email, password, userRole 컬럼이 필요합니다.");
+        }
+        return columns;
+    }
+
+    private UserImportRow parseCsvRow(String line, Map<String, Integer> columns) {
+        List<String> fields = parseCsvFields(line);
+        if (fields.size() != columns.size()) {
+            throw new IllegalArgumentException("컬럼 수가 헤더와 다릅니다.");
+        }
+        Integer nicknameIndex = columns.get("nickname");
+        String nickname = nicknameIndex == null || fields.get(nicknameIndex).isEmpty() ? null : fields.get(nicknameIndex);
+        return new UserImportRow(
+                fields.get(columns.get("email")),
+                fields.get(columns.get("password")),
+                fields.get(columns.get("userRole")),
+                nickname
+        );
+    }
+
+    // RFC 4180 - 따옴표 안의 쉼표/"" 는 값으로 취급 (한 행은 한 줄이어야 한다)
+    private static List<String> parseCsvFields(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static class ImportLine {
+
+        private final long number;
+        private final UserImportRow row;
+        private UserRole userRole;
+
+        private ImportLine(long number, UserImportRow row) {
+            this.number = number;
+            this.row = row;
+        }
+    }
+
+    private static class ImportResult {
+
+        private final int maxReportedFailures;
+        private final List<UserImportFailure> failures = new ArrayList<>();
+        private long total;
+        private long imported;
+        private long failed;
+
+        private ImportResult(int maxReportedFailures) {
+            this.maxReportedFailures = maxReportedFailures;
+        }
+
+        private void fail(long line, String email, String reason) {
+            failed++;
+            if (failures.size() < maxReportedFailures) {
+                failures.add(new UserImportFailure(line, email, reason));
+            }
+        }
+    }
+}
@@ -5,10 +5,14 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.event.UserUpdatedEvent;
 import org.example.expert.domain.user.repository.UserRepository;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.example.expert.security.PasswordHasher;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -16,29 +20,52 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     public UserResponse getUser(long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         return new UserResponse(user.getId(), user.getEmail());
     }
 
-    @Transactional
+    /**
+     * bcrypt 검증/해시는 트랜잭션(커넥션) 밖에서 실행하고, 변경 저장만 짧은 쓰기 트랜잭션으로 실행한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
         validateNewPassword(userChangePasswordRequest);
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
 
-        if (passwordEncoder.matches(userChangePasswordRequest.getNewPassword(), user.getPassword())) {
-            throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
+        if (!passwordHasher.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
+            throw new InvalidRequestException("잘못된 비밀번호입니다.");
         }
 
-        if (!passwordEncoder.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
-            throw new InvalidRequestException("잘못된 비밀번호입니다.");
+        // 기존 비밀번호가 검증됐으므로 같은 비밀번호 여부는 bcrypt 를 한 번 더 돌리지 않고 문자열로 비교
+        if (userChangePasswordRequest.getNewPassword().equals(userChangePasswordRequest.getOldPassword())) {
+            throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
         }
 
-        user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        String encodedPassword = passwordHasher.encode(userChangePasswordRequest.getNewPassword());
+        saveChangedPassword(userId, user.getPassword(), encodedPassword);
+    }
+
+    /**
+     * 검증하는 사이 비밀번호가 바뀌었으면 옛 비밀번호로 검증한 요청이 덮어쓰지 않는다.
+     * 이벤트는 커밋 후 캐시를 비우는 리스너가 받으므로 쓰기 트랜잭션 안에서 발행한다.
+     */
+    private void saveChangedPassword(long userId, String verifiedPassword, String encodedPassword) {
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new InvalidRequestException("User not found"));
+            if (!user.getPassword().equals(verifiedPassword)) {
+                throw new InvalidRequestException("비밀번호가 이미 변경되었습니다. 다시 시도해 주세요.");
+            }
+            user.changePassword(encodedPassword);
+            eventPublisher.publishEvent(new UserUpdatedEvent(user.getId()));
+        });
     }
 
     private static void validateNewPassword(UserChangePasswordRequest userChangePasswordRequest) {
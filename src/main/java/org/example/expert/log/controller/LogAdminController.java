@@ -0,0 +1,44 @@
+package org.example.expert.log.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.log.dto.LogResponse;
+import org.example.expert.log.dto.LogWriterStatsResponse;
+import org.example.expert.log.service.LogQueryService;
+import org.example.expert.log.service.LogService;
+import org.example.expert.querybudget.annotation.QueryBudget;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class LogAdminController {
+
+    private final LogService logService;
+    private final LogQueryService logQueryService;
+
+    /**
+     * 감사 로그 최신순 조회 - 첫 페이지는 cursor 를 비워서 요청, 응답의 nextCursor/prevCursor 로 이동
+     * 로그가 드문드문하면 날짜 테이블마다 1회씩 읽는다 (보관 기간 30일 + 미리 만든 내일 테이블)
+     */
+    @GetMapping("/admin/logs")
+    @QueryBudget(31)
+    public ResponseEntity<CursorResponse<LogResponse>> getLogs(
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String action
+    ) {
+        return ResponseEntity.ok(logQueryService.getLogs(cursor, size, action));
+    }
+
+    /**
+     * 감사 로그 대기열 깊이와 저장/유실 건수
+     */
+    @GetMapping("/admin/logs/writer/stats")
+    @QueryBudget(0)
+    public ResponseEntity<LogWriterStatsResponse> getWriterStats() {
+        return ResponseEntity.ok(logService.getStats());
+    }
+}
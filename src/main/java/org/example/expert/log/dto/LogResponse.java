@@ -0,0 +1,21 @@
+package org.example.expert.log.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class LogResponse {
+
+    private final Long id;
+    private final String action;
+    private final String message;
+    private final LocalDateTime createdAt;
+
+    public LogResponse(Long id, String action, String message, LocalDateTime createdAt) {
+        this.id = id;
+        this.action = action;
+        this.message = message;
+        this.createdAt = createdAt;
+    }
+}
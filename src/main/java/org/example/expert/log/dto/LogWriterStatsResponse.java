@@ -0,0 +1,28 @@
+package org.example.expert.log.dto;
+
+import lombok.Getter;
+
+@Getter
+public class LogWriterStatsResponse {
+
+    private final String overflowPolicy;
+    private final int capacity;
+    private final int queueDepth;
+    private final long enqueuedCount;
+    private final long writtenCount;
+    private final long droppedCount;
+    private final long failedCount;
+    private final long batchCount;
+
+    public LogWriterStatsResponse(String overflowPolicy, int capacity, int queueDepth, long enqueuedCount,
+                                  long writtenCount, long droppedCount, long failedCount, long batchCount) {
+        this.overflowPolicy = overflowPolicy;
+        this.capacity = capacity;
+        this.queueDepth = queueDepth;
+        this.enqueuedCount = enqueuedCount;
+        this.writtenCount = writtenCount;
+        this.droppedCount = droppedCount;
+        this.failedCount = failedCount;
+        this.batchCount = batchCount;
+    }
+}
@@ -1,29 +0,0 @@
-package org.example.expert.log.entity;
-
-import jakarta.persistence.*;
-import lombok.AccessLevel;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import org.example.expert.domain.common.entity.Timestamped;
-
-@Getter
-@Entity
-@Table(name = "log")
-@NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Log extends Timestamped {
-
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
-    @Column(nullable = false)
-    private String action;
-
-    @Column(nullable = false, length = 1000)
-    private String message;
-
-    public Log(String action, String message) {
-        this.action = action;
-        this.message = message;
-    }
-}
@@ -0,0 +1,13 @@
+package org.example.expert.log.enums;
+
+/**
+ * 로그 대기열이 가득 찼을 때의 처리
+ */
+public enum LogOverflowPolicy {
+    // 새로 들어온 로그를 버린다
+    DROP_NEWEST,
+    // 가장 오래된 로그를 버리고 새 로그를 넣는다
+    DROP_OLDEST,
+    // 호출한 스레드에서 바로 저장한다 (유실 없음, 대신 호출 쪽이 느려짐)
+    CALLER_RUNS
+}
@@ -0,0 +1,166 @@
+package org.example.expert.log.repository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.log.dto.LogResponse;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Pattern;
+
+/**
+ * 감사 로그 저장소 - 하루 단위 테이블(log_yyyyMMdd)에 나눠 저장한다.
+ * 보관 기간이 지난 로그는 행 단위 DELETE 대신 테이블을 통째로 DROP 하고,
+ * 조회는 커서가 가리키는 날짜부터 필요한 날짜 테이블만 차례로 읽는다.
+ * 테이블 이름은 LocalDate 로만 만들어지므로 SQL 에 그대로 붙여도 안전하다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LogBucketRepository {
+
+    private static final String TABLE_PREFIX = "log_";
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final Pattern BUCKET_TABLE = Pattern.compile("log_\\d{8}");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 존재하는 날짜 테이블 - 매번 메타데이터를 조회하지 않도록 들고 있고 refreshBuckets() 로 다시 맞춘다
+    private final NavigableSet<LocalDate> buckets = new ConcurrentSkipListSet<>();
+
+    @PostConstruct
+    public void refreshBuckets() {
+        List<LocalDate> found = jdbcTemplate.execute((ConnectionCallback<List<LocalDate>>) connection -> {
+            List<LocalDate> days = new ArrayList<>();
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet tables = metaData.getTables(connection.getCatalog(), connection.getSchema(), "log%", new String[]{"TABLE"})) {
+                while (tables.next()) {
+                    String name = tables.getString("TABLE_NAME").toLowerCase();
+                    if (BUCKET_TABLE.matcher(name).matches()) {
+                        try {
+                            days.add(LocalDate.parse(name.substring(TABLE_PREFIX.length()), BUCKET_FORMAT));
+                        } catch (DateTimeParseException ignored) {
+                            // log_99999999 같은 이름은 무시
+                        }
+                    }
+                }
+            }
+            return days;
+        });
+        buckets.retainAll(found);
+        buckets.addAll(found);
+    }
+
+    /**
+     * @return 오래된 날짜부터
+     */
+    public NavigableSet<LocalDate> getBuckets() {
+        return new ConcurrentSkipListSet<>(buckets);
+    }
+
+    public void createBucketIfAbsent(LocalDate day) {
+        if (buckets.contains(day)) {
+            return;
+        }
+        String table = tableName(day);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + table + " ("
+                + "id BIGINT NOT NULL AUTO_INCREMENT, "
+                + "action VARCHAR(255) NOT NULL, "
+                + "message VARCHAR(1000) NOT NULL, "
+                + "created_at DATETIME(6) NOT NULL, "
+                + "modified_at DATETIME(6) NOT NULL, "
+                + "PRIMARY KEY (id), "
+                + "INDEX idx_" + table + "_created (created_at, id), "
+                + "INDEX idx_" + table + "_action (action, created_at, id))");
+        buckets.add(day);
+    }
+
+    public void dropBucket(LocalDate day) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + tableName(day));
+        buckets.remove(day);
+    }
+
+    /**
+     * 모두 같은 날짜(day)의 로그여야 한다.
+     */
+    public void insertAll(LocalDate day, List<NewLog> logs) {
+        createBucketIfAbsent(day);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO " + tableName(day) + " (action, message, created_at, modified_at) VALUES (?, ?, ?, ?)",
+                logs, logs.size(), (ps, newLog) -> {
+                    Timestamp createdAt = Timestamp.valueOf(newLog.getCreatedAt());
+                    ps.setString(1, newLog.getAction());
+                    ps.setString(2, newLog.getMessage());
+                    ps.setTimestamp(3, createdAt);
+                    ps.setTimestamp(4, createdAt);
+                });
+    }
+
+    /**
+     * 한 날짜 테이블에서 (createdAt, id) 키셋으로 limit 건 조회
+     * NEXT(또는 첫 페이지)는 최신순, PREV 는 커서 이후를 오래된 순으로 읽는다.
+     */
+    public List<LogResponse> findPage(LocalDate day, String action, Cursor cursor, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT id, action, message, created_at FROM ")
+                .append(tableName(day))
+                .append(" WHERE 1 = 1");
+        List<Object> params = new ArrayList<>();
+
+        if (action != null) {
+            sql.append(" AND action = ?");
+            params.add(action);
+        }
+        boolean backward = cursor != null && cursor.isPrev();
+        if (cursor != null) {
+            Timestamp at = Timestamp.valueOf(cursor.getAt());
+            sql.append(backward
+                    ? " AND (created_at > ? OR (created_at = ? AND id > ?))"
+                    : " AND (created_at < ? OR (created_at = ? AND id < ?))");
+            params.add(at);
+            params.add(at);
+            params.add(cursor.getId());
+        }
+        sql.append(backward ? " ORDER BY created_at ASC, id ASC" : " ORDER BY created_at DESC, id DESC");
+        sql.append(" LIMIT ?");
+        params.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new LogResponse(
+                rs.getLong("id"),
+                rs.getString("action"),
+                rs.getString("message"),
+                rs.getTimestamp("created_at").toLocalDateTime()
+        ), params.toArray());
+    }
+
+    public static String tableName(LocalDate day) {
+        return TABLE_PREFIX + day.format(BUCKET_FORMAT);
+    }
+
+    @Getter
+    public static class NewLog {
+
+        private final String action;
+        private final String message;
+        // 저장 시점이 아니라 이벤트 발생 시점 (날짜 테이블도 이 값으로 정한다)
+        private final LocalDateTime createdAt;
+
+        public NewLog(String action, String message, LocalDateTime createdAt) {
+            this.action = action;
+            this.message = message;
+            this.createdAt = createdAt;
+        }
+    }
+}
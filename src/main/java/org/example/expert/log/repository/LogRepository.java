@@ -1,7 +0,0 @@
-package org.example.expert.log.repository;
-
-import org.example.expert.log.entity.Log;
-import org.springframework.data.jpa.repository.JpaRepository;
-
-public interface LogRepository extends JpaRepository<Log,Long> {
-}
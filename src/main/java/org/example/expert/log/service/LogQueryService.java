@@ -0,0 +1,54 @@
+package org.example.expert.log.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.log.dto.LogResponse;
+import org.example.expert.log.repository.LogBucketRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+
+@Service
+@RequiredArgsConstructor
+public class LogQueryService {
+
+    private static final int MAX_CURSOR_SIZE = 100;
+
+    private final LogBucketRepository logBucketRepository;
+
+    /**
+     * (createdAt, id) 커서로 최신순 조회 - 커서 날짜의 테이블부터 탐색 방향으로 한 테이블씩 읽고, size + 1 건이 모이면 멈춘다.
+     */
+    public CursorResponse<LogResponse> getLogs(String cursorValue, int size, String action) {
+        Cursor cursor = Cursor.decode(cursorValue);
+        int limit = Math.min(Math.max(size, 1), MAX_CURSOR_SIZE);
+        String actionFilter = StringUtils.hasText(action) ? action : null;
+
+        List<LogResponse> rows = new ArrayList<>(limit + 1);
+        for (LocalDate day : bucketsToScan(cursor)) {
+            rows.addAll(logBucketRepository.findPage(day, actionFilter, cursor, limit + 1 - rows.size()));
+            if (rows.size() > limit) {
+                break;
+            }
+        }
+
+        return CursorResponse.of(rows, limit, cursor, LogResponse::getCreatedAt, LogResponse::getId);
+    }
+
+    /**
+     * NEXT(또는 첫 페이지): 커서 날짜 이하를 최신 날짜부터 / PREV: 커서 날짜 이상을 오래된 날짜부터
+     */
+    private NavigableSet<LocalDate> bucketsToScan(Cursor cursor) {
+        NavigableSet<LocalDate> buckets = logBucketRepository.getBuckets();
+        if (cursor == null) {
+            return buckets.descendingSet();
+        }
+        LocalDate day = cursor.getAt().toLocalDate();
+        return cursor.isPrev() ? buckets.tailSet(day, true) : buckets.headSet(day, true).descendingSet();
+    }
+}
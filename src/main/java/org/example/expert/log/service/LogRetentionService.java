@@ -0,0 +1,59 @@
+package org.example.expert.log.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.log.repository.LogBucketRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 감사 로그 보관 기간 관리 - 기간이 지난 날짜 테이블을 통째로 DROP 한다. (행 단위 DELETE 없음)
+ * 다음 날 테이블도 미리 만들어 자정 직후 첫 로그 저장 때 DDL 을 실행하지 않게 한다.
+ */
+@Slf4j
+@Service
+public class LogRetentionService {
+
+    private final LogBucketRepository logBucketRepository;
+    private final int retentionDays;
+
+    public LogRetentionService(
+            LogBucketRepository logBucketRepository,
+            @Value("${log.partition.retention-days:30}") int retentionDays
+    ) {
+        this.logBucketRepository = logBucketRepository;
+        this.retentionDays = Math.max(1, retentionDays);
+    }
+
+    @Scheduled(cron = "${log.partition.retention-cron:0 10 0 * * *}")
+    public void maintain() {
+        try {
+            List<LocalDate> dropped = dropExpired(LocalDate.now());
+            logBucketRepository.createBucketIfAbsent(LocalDate.now().plusDays(1));
+            if (!dropped.isEmpty()) {
+                log.info("보관 기간이 지난 로그 테이블 삭제 - {}", dropped);
+            }
+        } catch (RuntimeException e) {
+            log.warn("로그 보관 기간 정리 실패", e);
+        }
+    }
+
+    /**
+     * today 를 포함해 retention-days 일만 남기고 그 이전 날짜 테이블을 삭제한다.
+     *
+     * @return 삭제한 날짜
+     */
+    public List<LocalDate> dropExpired(LocalDate today) {
+        // 다른 인스턴스가 만든 테이블도 정리하도록 목록을 다시 읽는다
+        logBucketRepository.refreshBuckets();
+        LocalDate oldestKept = today.minusDays(retentionDays - 1L);
+
+        List<LocalDate> expired = new ArrayList<>(logBucketRepository.getBuckets().headSet(oldestKept, false));
+        expired.forEach(logBucketRepository::dropBucket);
+        return expired;
+    }
+}
@@ -1,27 +1,209 @@
 package org.example.expert.log.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.example.expert.log.entity.Log;
-import org.example.expert.log.repository.LogRepository;
+import org.example.expert.log.dto.LogWriterStatsResponse;
+import org.example.expert.log.enums.LogOverflowPolicy;
+import org.example.expert.log.repository.LogBucketRepository;
+import org.example.expert.log.repository.LogBucketRepository.NewLog;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
-@Service
-@RequiredArgsConstructor
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 감사 로그 저장 - 호출 쪽은 고정 크기 대기열(링 버퍼)에 넣기만 하고 바로 돌아간다.
+ * 백그라운드 스레드 하나가 batch-size 만큼 모이거나 flush-interval 이 지나면 JDBC 배치 insert 로 한 번에 저장한다.
+ * 배치가 한 문장으로 나가는 것은 datasource 의 rewriteBatchedStatements 설정에 달려 있다. (application.yml)
+ * 저장 위치는 로그 발생 날짜의 테이블(log_yyyyMMdd)이다. (LogBucketRepository)
+ * 예전처럼 로그마다 REQUIRES_NEW 트랜잭션(커넥션 하나 더 + 커밋)을 열지 않는다.
+ * 종료 시에는 대기열에 남은 로그를 모두 저장한 뒤 멈춘다.
+ */
 @Slf4j
-public class LogService {
-    private final LogRepository logRepository;
+@Service
+public class LogService implements MeterBinder {
+
+    private final LogBucketRepository logBucketRepository;
+    private final BlockingQueue<NewLog> queue;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final LogOverflowPolicy overflowPolicy;
+    private final Duration shutdownTimeout;
+
+    private final LongAdder enqueuedCount = new LongAdder();
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder batchCount = new LongAdder();
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public LogService(
+            LogBucketRepository logBucketRepository,
+            @Value("${log.writer.capacity:10000}") int capacity,
+            @Value("${log.writer.batch-size:200}") int batchSize,
+            @Value("${log.writer.flush-interval:1s}") Duration flushInterval,
+            @Value("${log.writer.overflow-policy:DROP_NEWEST}") LogOverflowPolicy overflowPolicy,
+            @Value("${log.writer.shutdown-timeout:10s}") Duration shutdownTimeout
+    ) {
+        this.logBucketRepository = logBucketRepository;
+        this.capacity = capacity;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.overflowPolicy = overflowPolicy;
+        this.shutdownTimeout = shutdownTimeout;
+    }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::runWriter, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (writer != null) {
+            try {
+                writer.join(shutdownTimeout.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (!queue.isEmpty()) {
+            log.warn("로그 저장 스레드 종료 대기 초과 - 남은 로그: {}", queue.size());
+        }
+    }
+
+    /**
+     * 대기열에 넣기만 한다. 가득 차면 overflow-policy 에 따라 버리거나 호출 스레드에서 바로 저장한다.
+     */
     public void saveLog(String action, String message) {
+        NewLog newLog = new NewLog(action, message, LocalDateTime.now());
+        if (queue.offer(newLog)) {
+            enqueuedCount.increment();
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case DROP_OLDEST -> {
+                // 그 사이 writer 가 비웠을 수도 있으므로 하나를 버린 뒤 다시 넣어본다
+                if (queue.poll() != null) {
+                    droppedCount.increment();
+                }
+                if (queue.offer(newLog)) {
+                    enqueuedCount.increment();
+                } else {
+                    droppedCount.increment();
+                }
+            }
+            case CALLER_RUNS -> write(List.of(newLog));
+            default -> droppedCount.increment();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("log.writer.queue.depth", queue, BlockingQueue::size)
+                .description("저장 대기 중인 감사 로그 수")
+                .register(registry);
+        FunctionCounter.builder("log.writer.dropped", droppedCount, LongAdder::sum)
+                .description("대기열이 가득 차 버린 감사 로그 수")
+                .register(registry);
+        FunctionCounter.builder("log.writer.failed", failedCount, LongAdder::sum)
+                .description("저장에 실패한 감사 로그 수")
+                .register(registry);
+        FunctionCounter.builder("log.writer.written", writtenCount, LongAdder::sum)
+                .register(registry);
+    }
+
+    public LogWriterStatsResponse getStats() {
+        return new LogWriterStatsResponse(
+                overflowPolicy.name(),
+                capacity,
+                queue.size(),
+                enqueuedCount.sum(),
+                writtenCount.sum(),
+                droppedCount.sum(),
+                failedCount.sum(),
+                batchCount.sum()
+        );
+    }
+
+    private void runWriter() {
+        List<NewLog> batch = new ArrayList<>(batchSize);
+        // 종료 요청 이후에도 대기열이 빌 때까지 계속 저장한다
+        while (running || !queue.isEmpty()) {
+            try {
+                NewLog first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 첫 로그가 들어온 뒤 flush-interval 동안 batch-size 까지 더 모은다.
+     */
+    private void fillBatch(List<NewLog> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            NewLog next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<NewLog> batch) {
         try {
-            Log newLog = new Log(action, message);
-            logRepository.save(newLog);
-            log.info("로그 저장 완료 - Action: {}", action);
-        } catch (Exception e) {
-            log.error("로그 저장 실패 - Action: {}, Message: {}", action, message, e);
+            // 자정 전후 로그가 한 배치에 섞이면 날짜별로 나눠 넣는다
+            Map<LocalDate, List<NewLog>> byDay = new TreeMap<>();
+            for (NewLog newLog : batch) {
+                byDay.computeIfAbsent(newLog.getCreatedAt().toLocalDate(), day -> new ArrayList<>()).add(newLog);
+            }
+            byDay.forEach(logBucketRepository::insertAll);
+            writtenCount.add(batch.size());
+            batchCount.increment();
+        } catch (RuntimeException e) {
+            // 로그 저장 실패가 서비스 흐름에 영향을 주지 않도록 버리고 기록만 남긴다
+            failedCount.add(batch.size());
+            log.error("로그 저장 실패 - {} 건 (첫 Action: {})", batch.size(), batch.get(0).getAction(), e);
         }
     }
 }
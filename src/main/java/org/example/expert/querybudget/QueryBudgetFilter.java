@@ -0,0 +1,90 @@
+package org.example.expert.querybudget;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.QueryBudgetExceededException;
+import org.example.expert.querybudget.annotation.QueryBudget;
+import org.example.expert.querybudget.enums.QueryBudgetMode;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 요청마다 QueryCounter 를 열어 실행된 SQL 문을 세고, 응답까지 끝난 뒤 핸들러의 @QueryBudget 과 비교한다.
+ * 응답 직렬화 중 지연 로딩으로 생기는 조회까지 포함하도록 인터셉터가 아니라 필터에서 감싼다.
+ * JwtFilter 가 체인 안쪽의 예외를 잡아 응답으로 바꾸므로 Spring Security 필터 체인 바깥에 등록한다. (FAIL 모드 예외가 그대로 전파되도록)
+ * 인증 주체 조회는 QueryBudgetInterceptor 가 핸들러 실행 직전에 집계를 비워 제외한다.
+ * 같은 SQL 이 repeat-threshold 회 이상 반복되면 예산과 관계없이 N+1 의심으로 경고한다.
+ */
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private static final int MAX_SQL_LENGTH = 300;
+
+    private final QueryBudgetMode mode;
+    private final int repeatThreshold;
+
+    public QueryBudgetFilter(QueryBudgetMode mode, int repeatThreshold) {
+        this.mode = mode;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter counter = QueryCounter.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCounter.close();
+        }
+        // 핸들러에서 예외가 나면 여기까지 오지 않는다 - 원래 예외를 가리지 않는다
+        check(request, counter);
+    }
+
+    private void check(HttpServletRequest request, QueryCounter counter) {
+        if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        String endpoint = request.getMethod() + " " + request.getRequestURI()
+                + " (" + handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName() + ")";
+
+        QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+        if (budget != null && budget.bulk() && mode != QueryBudgetMode.FAIL) {
+            return;
+        }
+
+        Map<String, Integer> repeated = counter.findRepeated(repeatThreshold);
+        if (!repeated.isEmpty()) {
+            log.warn("[QueryBudget] N+1 의심 - {}\n{}", endpoint, describe(repeated));
+        }
+
+        if (budget == null || counter.getTotal() <= budget.value()) {
+            return;
+        }
+        String message = "SQL 예산 초과 - " + endpoint + ": " + counter.getTotal() + " 회 실행 (예산 " + budget.value() + ")"
+                + (repeated.isEmpty() ? "" : "\nN+1 의심:\n" + describe(repeated));
+        log.warn("[QueryBudget] {}", message);
+        if (mode == QueryBudgetMode.FAIL) {
+            throw new QueryBudgetExceededException(message);
+        }
+    }
+
+    private static String describe(Map<String, Integer> repeated) {
+        return repeated.entrySet().stream()
+                .map(entry -> "  " + entry.getValue() + " x " + abbreviate(entry.getKey()))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String abbreviate(String sql) {
+        String singleLine = sql.replaceAll("\\s+", " ").trim();
+        return singleLine.length() <= MAX_SQL_LENGTH ? singleLine : singleLine.substring(0, MAX_SQL_LENGTH) + "...";
+    }
+}
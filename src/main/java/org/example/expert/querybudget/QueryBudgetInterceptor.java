@@ -0,0 +1,17 @@
+package org.example.expert.querybudget;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 핸들러 실행 직전에 집계를 비운다 - 여기까지 실행된 문은 인증 필터(JwtFilter)의 주체 조회라 예산에 넣지 않는다.
+ */
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCounter.reset();
+        return true;
+    }
+}
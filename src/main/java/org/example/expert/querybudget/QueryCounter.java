@@ -0,0 +1,73 @@
+package org.example.expert.querybudget;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 하나(스레드 하나) 동안 실행된 SQL 문 집계 - QueryBudgetFilter 가 열고 닫고, QueryCountingDataSource 가 기록한다.
+ * 핸들러 실행 직전에 QueryBudgetInterceptor 가 reset() 하므로 인증 필터(JwtFilter)에서 실행된 조회는 빠진다.
+ * 열려 있지 않은 스레드(스케줄러, @Async, 로그 writer 등)에서 실행된 문은 세지 않는다.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<QueryCounter> CURRENT = new ThreadLocal<>();
+
+    // SQL -> 실행 횟수 (실행 순서 유지)
+    private final Map<String, Integer> countsBySql = new LinkedHashMap<>();
+    private int total;
+
+    private QueryCounter() {
+    }
+
+    static QueryCounter open() {
+        QueryCounter counter = new QueryCounter();
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    static void reset() {
+        QueryCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.countsBySql.clear();
+            counter.total = 0;
+        }
+    }
+
+    static boolean isOpen() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * PreparedStatement 는 값이 ? 로 남아 있으므로 같은 쿼리는 같은 문자열로 모인다.
+     * executeBatch 는 묶음 전체를 1 회로 센다.
+     */
+    static void record(String sql) {
+        QueryCounter counter = CURRENT.get();
+        if (counter == null) {
+            return;
+        }
+        counter.total++;
+        counter.countsBySql.merge(sql, 1, Integer::sum);
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * @return threshold 회 이상 반복된 SQL -> 횟수 (N+1 의심)
+     */
+    public Map<String, Integer> findRepeated(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        countsBySql.forEach((sql, count) -> {
+            if (count >= threshold) {
+                repeated.put(sql, count);
+            }
+        });
+        return repeated;
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.expert.querybudget;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource 를 감싸 실행된 SQL 문을 QueryCounter 에 기록한다.
+ * Hibernate, QueryDSL, JdbcTemplate 모두 여기서 커넥션을 받으므로 경로와 관계없이 센다.
+ * 집계가 열려 있지 않은 스레드에서 만든 Statement 는 감싸지 않고 원본을 그대로 돌려준다. (요청 밖 작업은 오버헤드 없음)
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection wrapConnection(Connection target) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (!QueryCounter.isOpen()) {
+                return result;
+            }
+            // prepareCall 은 CallableStatement 를 그대로 감싸야 해서 세지 않는다 (현재 저장 프로시저 호출 없음)
+            if (result instanceof PreparedStatement ps && method.getName().equals("prepareStatement")) {
+                return wrapPreparedStatement(ps, (String) args[0]);
+            }
+            if (result instanceof Statement statement && method.getName().equals("createStatement")) {
+                return wrapStatement(statement);
+            }
+            return result;
+        });
+    }
+
+    private static PreparedStatement wrapPreparedStatement(PreparedStatement target, String sql) {
+        return proxy(PreparedStatement.class, (proxy, method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                // addBatch 로 쌓인 문이 없으면 executeBatch 는 DB 를 호출하지 않지만 구분하지 않는다
+                QueryCounter.record(args != null && args.length > 0 && args[0] instanceof String direct ? direct : sql);
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    private static Statement wrapStatement(Statement target) {
+        return proxy(Statement.class, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                QueryCounter.record(args != null && args.length > 0 && args[0] instanceof String sql ? sql : "<batch>");
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.querybudget.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 컨트롤러 메서드 한 번 호출(요청 하나)에서 실행해도 되는 SQL 문 수의 상한.
+ * 인증 필터(JwtFilter)에서 실행된 조회는 세지 않고, 핸들러 실행부터 응답 직렬화까지만 센다.
+ * 넘으면 query-budget.mode 에 따라 경고 로그(LOG) 또는 예외(FAIL - 테스트용)로 알린다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface QueryBudget {
+
+    int value();
+
+    /**
+     * 입력/데이터 크기에 비례해 청크마다 같은 SQL 을 반복하는 일괄 작업 (가져오기, 재집계 등)
+     * value 는 청크 하나일 때의 문 수 - 운영(LOG)에서는 예산 초과와 반복을 경고하지 않고 FAIL 모드(테스트)에서만 검사한다.
+     */
+    boolean bulk() default false;
+}
@@ -0,0 +1,11 @@
+package org.example.expert.querybudget.enums;
+
+/**
+ * 요청이 @QueryBudget 을 넘었을 때의 처리
+ */
+public enum QueryBudgetMode {
+    // 경고 로그만 남긴다 (운영)
+    LOG,
+    // 경고 로그를 남기고 QueryBudgetExceededException 을 던진다 (테스트에서 실패시키기 위함)
+    FAIL
+}
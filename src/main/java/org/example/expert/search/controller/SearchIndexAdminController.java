@@ -0,0 +1,29 @@
+package org.example.expert.search.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.querybudget.annotation.QueryBudget;
+import org.example.expert.search.dto.SearchIndexStatsResponse;
+import org.example.expert.search.service.TodoSearchIndexService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class SearchIndexAdminController {
+
+    private final TodoSearchIndexService todoSearchIndexService;
+
+    @PostMapping("/admin/search-index/rebuild")
+    @QueryBudget(value = 2, bulk = true)
+    public ResponseEntity<SearchIndexStatsResponse> rebuild() {
+        return ResponseEntity.ok(todoSearchIndexService.rebuild());
+    }
+
+    @GetMapping("/admin/search-index/stats")
+    @QueryBudget(0)
+    public ResponseEntity<SearchIndexStatsResponse> getStats() {
+        return ResponseEntity.ok(todoSearchIndexService.getStats());
+    }
+}
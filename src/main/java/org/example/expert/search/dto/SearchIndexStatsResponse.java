@@ -0,0 +1,33 @@
+package org.example.expert.search.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class SearchIndexStatsResponse {
+
+    private final boolean enabled;
+    private final boolean ready;
+    private final int titleDocuments;
+    private final int titleGrams;
+    private final int nicknameDocuments;
+    private final int nicknameGrams;
+    private final long estimatedBytes;
+    private final long lastBuildMillis;
+    private final LocalDateTime lastBuiltAt;
+
+    public SearchIndexStatsResponse(boolean enabled, boolean ready, int titleDocuments, int titleGrams,
+                                    int nicknameDocuments, int nicknameGrams, long estimatedBytes,
+                                    long lastBuildMillis, LocalDateTime lastBuiltAt) {
+        this.enabled = enabled;
+        this.ready = ready;
+        this.titleDocuments = titleDocuments;
+        this.titleGrams = titleGrams;
+        this.nicknameDocuments = nicknameDocuments;
+        this.nicknameGrams = nicknameGrams;
+        this.estimatedBytes = estimatedBytes;
+        this.lastBuildMillis = lastBuildMillis;
+        this.lastBuiltAt = lastBuiltAt;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.search.index;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 색인으로 좁힌 후보 id 와, 아직 색인되지 않았을 수 있는 구간의 경계(maxIndexedId)
+ * 조회 시 id > maxIndexedId 구간은 따로 판단해 ids 에 더한다. (QTodoRepositoryImpl)
+ * 경계는 색인의 최대 id 보다 뒤처질 수 있다. (TodoSearchIndexService)
+ */
+@Getter
+public class IndexCandidates {
+
+    private final List<Long> ids;
+    private final long maxIndexedId;
+
+    public IndexCandidates(List<Long> ids, long maxIndexedId) {
+        this.ids = ids;
+        this.maxIndexedId = maxIndexedId;
+    }
+}
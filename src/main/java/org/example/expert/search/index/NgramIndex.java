@@ -0,0 +1,192 @@
+package org.example.expert.search.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * 부분 문자열 검색용 trigram 역색인 (id -> 텍스트)
+ * lower(x) like '%term%' 를 대신해 후보 id 를 좁히는 용도이며, 3글자 미만 검색어는 좁힐 수 없다.
+ * 후보는 like 결과를 모두 포함해야 하므로 MySQL 기본 collation(utf8mb4_0900_ai_ci)처럼 대소문자와 악센트를 무시하고 비교한다.
+ * 읽기가 대부분이라 ReadWriteLock 으로 보호한다.
+ */
+public class NgramIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final Map<Long, LongPostingList> postings = new HashMap<>();
+    private final Map<Long, String> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long maxId;
+
+    public void put(long id, String text) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            maxId = Math.max(maxId, id);
+            if (text == null || text.isEmpty()) {
+                return;
+            }
+
+            String normalized = normalize(text);
+            documents.put(id, normalized);
+            for (long gram : grams(normalized)) {
+                postings.computeIfAbsent(gram, g -> new LongPostingList()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * term 을 포함하는 id 목록(오름차순), 검색어가 너무 짧아 색인으로 좁힐 수 없으면 null
+     */
+    public long[] search(String term) {
+        if (term == null) {
+            return null;
+        }
+
+        String normalized = normalize(term);
+        if (normalized.length() < GRAM_LENGTH) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            List<LongPostingList> lists = new ArrayList<>();
+            for (long gram : grams(normalized)) {
+                LongPostingList list = postings.get(gram);
+                if (list == null) {
+                    return new long[0];
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(LongPostingList::size));
+
+            // 가장 짧은 리스트를 기준으로 교집합 후 원문 포함 여부로 확정
+            LongPostingList smallest = lists.get(0);
+            long[] result = new long[smallest.size()];
+            int count = 0;
+            for (int i = 0; i < smallest.size(); i++) {
+                long id = smallest.get(i);
+                if (containsInAll(lists, id) && documents.get(id).contains(normalized)) {
+                    result[count++] = id;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인에 반영된 가장 큰 id - 이보다 큰 id 는 아직 색인되지 않았을 수 있다.
+     */
+    public long getMaxId() {
+        lock.readLock().lock();
+        try {
+            return maxId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int gramCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 대략적인 힙 사용량 (HashMap 엔트리, 박싱된 키, 포스팅 배열, 원문 문자열 기준)
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (LongPostingList list : postings.values()) {
+                bytes += 32 + 16 + list.estimatedBytes();
+            }
+            for (String text : documents.values()) {
+                bytes += 32 + 16 + 40 + text.length();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(long id) {
+        String previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (long gram : grams(previous)) {
+            LongPostingList list = postings.get(gram);
+            if (list != null && list.remove(id) && list.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static boolean containsInAll(List<LongPostingList> lists, long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 세 글자(char 16bit x 3)를 하나의 long 키로 압축
+     */
+    private static Set<Long> grams(String text) {
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * 소문자 -> 분해(NFD) 후 결합 문자(악센트) 제거 -> 재조합(NFC, 한글 음절 복원) - "Café" 와 "cafe" 가 같아진다.
+     */
+    private static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        return Normalizer.normalize(COMBINING_MARKS.matcher(decomposed).replaceAll(""), Normalizer.Form.NFC);
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.expert.search.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.example.expert.domain.todo.entity.QTodo.todo;
+import static org.example.expert.domain.user.entity.QUser.user;
+
+/**
+ * 색인 빌드용 원본 조회 - (id, 텍스트) 스칼라만 id 순 청크로 읽어 영속성 컨텍스트에 엔티티를 쌓지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchIndexSourceRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public void forEachTodoTitle(int chunkSize, BiConsumer<Long, String> consumer) {
+        forEach(todo, todo.id, todo.title, chunkSize, consumer);
+    }
+
+    public void forEachUserNickname(int chunkSize, BiConsumer<Long, String> consumer) {
+        forEach(user, user.id, user.nickname, chunkSize, consumer);
+    }
+
+    private void forEach(EntityPath<?> from, NumberPath<Long> id, StringPath text, int chunkSize, BiConsumer<Long, String> consumer) {
+        long lastId = 0L;
+        while (true) {
+            List<Tuple> rows = queryFactory
+                    .select(id, text)
+                    .from(from)
+                    .where(id.gt(lastId))
+                    .orderBy(id.asc())
+                    .limit(chunkSize)
+                    .fetch();
+
+            for (Tuple row : rows) {
+                consumer.accept(row.get(id), row.get(text));
+            }
+            if (rows.size() < chunkSize) {
+                return;
+            }
+            lastId = rows.get(rows.size() - 1).get(id);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package org.example.expert.search.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.user.event.UserSavedEvent;
+import org.example.expert.search.dto.SearchIndexStatsResponse;
+import org.example.expert.search.index.IndexCandidates;
+import org.example.expert.search.index.NgramIndex;
+import org.example.expert.search.repository.SearchIndexSourceRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 일정 제목 / 유저 닉네임 trigram 색인
+ * 기동 시 전체 빌드 후 커밋된 저장/수정 이벤트로 증분 반영하고, 검색 전에 후보 id 를 좁히는 데 사용한다.
+ *
+ * 검색은 id IN (후보) OR id > 경계(watermark) 로 좁힌다. 경계 이하의 행은 모두 색인에 반영됐다고 보는 값이라
+ * 색인의 최대 id 를 그대로 쓰면, 먼저 발급됐지만 늦게 커밋된 행(id < 최대 id)이 이벤트가 오기 전까지 검색에서 빠진다.
+ * 그래서 경계는 빌드 시점의 최대 id 에서 시작해, 한 주기(watermark-lag) 전에 관측한 최대 id 까지만 올린다.
+ * watermark-lag 보다 오래 커밋되지 않는 쓰기 트랜잭션은 없다고 가정한다.
+ */
+@Slf4j
+@Service
+public class TodoSearchIndexService {
+
+    private static final int LOAD_CHUNK_SIZE = 5_000;
+
+    private final SearchIndexSourceRepository sourceRepository;
+    private final boolean enabled;
+    private final int maxCandidates;
+
+    private volatile NgramIndex titles = new NgramIndex();
+    private volatile NgramIndex nicknames = new NgramIndex();
+    private volatile boolean ready;
+    private volatile long lastBuildMillis;
+    private volatile LocalDateTime lastBuiltAt;
+
+    // 이 id 이하는 색인에 반영이 끝난 구간 - 초과 구간은 색인 여부와 관계없이 like 로 확인한다
+    private volatile long titleWatermark;
+    private volatile long nicknameWatermark;
+    // 직전 주기에 관측한 색인 최대 id - 다음 주기에 경계로 올린다
+    private long observedTitleMaxId;
+    private long observedNicknameMaxId;
+
+    // 재빌드 중 들어온 변경 - 새 색인으로 교체한 뒤 다시 반영
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private final Queue<Map.Entry<Long, String>> pendingTitles = new ConcurrentLinkedQueue<>();
+    private final Queue<Map.Entry<Long, String>> pendingNicknames = new ConcurrentLinkedQueue<>();
+
+    public TodoSearchIndexService(
+            SearchIndexSourceRepository sourceRepository,
+            @Value("${todo.search.ngram.enabled:true}") boolean enabled,
+            @Value("${todo.search.ngram.max-candidates:5000}") int maxCandidates
+    ) {
+        this.sourceRepository = sourceRepository;
+        this.enabled = enabled;
+        this.maxCandidates = maxCandidates;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    public SearchIndexStatsResponse rebuild() {
+        if (!enabled) {
+            throw new InvalidRequestException("검색 색인이 비활성화되어 있습니다.");
+        }
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new InvalidRequestException("검색 색인을 이미 재빌드하는 중입니다.");
+        }
+
+        try {
+            long start = System.nanoTime();
+
+            NgramIndex newTitles = new NgramIndex();
+            NgramIndex newNicknames = new NgramIndex();
+            sourceRepository.forEachTodoTitle(LOAD_CHUNK_SIZE, newTitles::put);
+            sourceRepository.forEachUserNickname(LOAD_CHUNK_SIZE, newNicknames::put);
+
+            titles = newTitles;
+            nicknames = newNicknames;
+            resetWatermarks(newTitles.getMaxId(), newNicknames.getMaxId());
+            drainPending();
+            rebuilding.set(false);
+            drainPending();
+
+            ready = true;
+            lastBuildMillis = (System.nanoTime() - start) / 1_000_000;
+            lastBuiltAt = LocalDateTime.now();
+
+            log.info("검색 색인 빌드 완료 - titles: {}, nicknames: {}, {}ms",
+                    newTitles.documentCount(), newNicknames.documentCount(), lastBuildMillis);
+            return getStats();
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTodoSaved(TodoSavedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (rebuilding.get()) {
+            pendingTitles.add(new AbstractMap.SimpleImmutableEntry<>(event.getTodoId(), event.getTitle()));
+        }
+        titles.put(event.getTodoId(), event.getTitle());
+    }
+
+    @TransactionalEventListener
+    public void onUserSaved(UserSavedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (rebuilding.get()) {
+            pendingNicknames.add(new AbstractMap.SimpleImmutableEntry<>(event.getUserId(), event.getNickname()));
+        }
+        nicknames.put(event.getUserId(), event.getNickname());
+    }
+
+    /**
+     * 경계를 한 주기 전에 관측한 최대 id 로 올리고, 지금의 최대 id 를 다음 주기용으로 관측해 둔다.
+     */
+    @Scheduled(fixedDelayString = "${todo.search.ngram.watermark-lag:PT1M}")
+    public synchronized void advanceWatermarks() {
+        if (!enabled || !ready) {
+            return;
+        }
+        titleWatermark = Math.max(titleWatermark, observedTitleMaxId);
+        nicknameWatermark = Math.max(nicknameWatermark, observedNicknameMaxId);
+        observedTitleMaxId = titles.getMaxId();
+        observedNicknameMaxId = nicknames.getMaxId();
+    }
+
+    /**
+     * 제목에 term 을 포함하는 일정 id 후보, 색인으로 좁힐 수 없으면(비활성/빌드 전/짧은 검색어/후보 과다) null
+     */
+    public IndexCandidates findTodoCandidatesByTitle(String term) {
+        return findCandidates(titles, titleWatermark, term);
+    }
+
+    /**
+     * 닉네임에 term 을 포함하는 유저 id 후보, 색인으로 좁힐 수 없으면 null
+     */
+    public IndexCandidates findUserCandidatesByNickname(String term) {
+        return findCandidates(nicknames, nicknameWatermark, term);
+    }
+
+    public SearchIndexStatsResponse getStats() {
+        NgramIndex currentTitles = titles;
+        NgramIndex currentNicknames = nicknames;
+        return new SearchIndexStatsResponse(
+                enabled,
+                ready,
+                currentTitles.documentCount(),
+                currentTitles.gramCount(),
+                currentNicknames.documentCount(),
+                currentNicknames.gramCount(),
+                currentTitles.estimatedBytes() + currentNicknames.estimatedBytes(),
+                lastBuildMillis,
+                lastBuiltAt
+        );
+    }
+
+    private IndexCandidates findCandidates(NgramIndex index, long watermark, String term) {
+        if (!enabled || !ready) {
+            return null;
+        }
+
+        long[] ids = index.search(term);
+        if (ids == null || ids.length > maxCandidates) {
+            return null;
+        }
+        return new IndexCandidates(Arrays.stream(ids).boxed().toList(), watermark);
+    }
+
+    /**
+     * 빌드 스냅샷에 들어 있는 최대 id 까지만 반영이 끝난 것으로 본다. (재빌드 중 들어온 이벤트 반영분은 제외)
+     */
+    private synchronized void resetWatermarks(long titleMaxId, long nicknameMaxId) {
+        titleWatermark = titleMaxId;
+        nicknameWatermark = nicknameMaxId;
+        observedTitleMaxId = titleMaxId;
+        observedNicknameMaxId = nicknameMaxId;
+    }
+
+    private void drainPending() {
+        Map.Entry<Long, String> entry;
+        while ((entry = pendingTitles.poll()) != null) {
+            titles.put(entry.getKey(), entry.getValue());
+        }
+        while ((entry = pendingNicknames.poll()) != null) {
+            nicknames.put(entry.getKey(), entry.getValue());
+        }
+    }
+}
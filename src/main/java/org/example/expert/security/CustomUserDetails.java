@@ -26,6 +26,17 @@ public class CustomUserDetails implements UserDetails {
         this.nickname = user.getNickname();
     }
 
+    /**
+     * JwtFilter 용 - 인증 이후에는 비밀번호가 필요 없으므로 담지 않는다.
+     */
+    public CustomUserDetails(Long id, String email, UserRole userRole, String nickname) {
+        this.id = id;
+        this.email = email;
+        this.password = null;
+        this.userRole = userRole;
+        this.nickname = nickname;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority("ROLE_" + userRole.name()));
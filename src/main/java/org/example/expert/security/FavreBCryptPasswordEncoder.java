@@ -0,0 +1,52 @@
+package org.example.expert.security;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * at.favre.lib:bcrypt 기반 PasswordEncoder - Spring BCryptPasswordEncoder 와 같은 $2a$ 형식이라 서로 검증 가능
+ */
+public class FavreBCryptPasswordEncoder implements PasswordEncoder {
+
+    private final int cost;
+    private final BCrypt.Hasher hasher = BCrypt.with(BCrypt.Version.VERSION_2A);
+    private final BCrypt.Verifyer verifyer = BCrypt.verifyer(BCrypt.Version.VERSION_2A);
+
+    public FavreBCryptPasswordEncoder(int cost) {
+        this.cost = cost;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hasher.hashToString(cost, toChars(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        return verifyer.verify(toChars(rawPassword), encodedPassword.getBytes(StandardCharsets.UTF_8)).verified;
+    }
+
+    /**
+     * 저장된 해시의 cost 가 설정값보다 낮으면 재해시 대상 ($2a$10$... 의 두 자리 cost)
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7) {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) < cost;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private char[] toChars(CharSequence rawPassword) {
+        return rawPassword.toString().toCharArray();
+    }
+}
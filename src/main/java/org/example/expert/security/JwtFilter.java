@@ -10,20 +10,28 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.example.expert.domain.user.entity.User;
-import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
-import java.util.Optional;
 
 @Slf4j
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final PrincipalResolver principalResolver;
+    private final TokenRevocationStore tokenRevocationStore;
+
+    /**
+     * Actuator(/actuator/health, /actuator/prometheus)는 토큰 없이 수집한다 - 관리 포트(management.server.port)로만 노출
+     * 회원가입/로그인은 토큰을 받기 전이므로 검사하지 않는다 (SecurityConfig 의 permitAll 과 같은 경로)
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return uri.startsWith("/actuator/") || uri.equals("/auth/signup") || uri.equals("/auth/signin");
+    }
 
     @Override
     protected void doFilterInternal(
@@ -50,12 +58,16 @@ public class JwtFilter extends OncePerRequestFilter {
                 return;
             }
 
-            Long userId = Long.parseLong(claims.getSubject());
-
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("존재하지 않는 사용자입니다."));
+            if (tokenRevocationStore.isRevoked(claims)) {
+                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                response.getWriter().write("폐기된 JWT 토큰입니다.");
+                return;
+            }
 
-            CustomUserDetails customUserDetails = new CustomUserDetails(user);
+            CustomUserDetails customUserDetails = principalResolver.resolve(claims);
+            if (customUserDetails == null) {
+                throw new RuntimeException("존재하지 않는 사용자입니다.");
+            }
 
             if (SecurityContextHolder.getContext().getAuthentication() == null) {
                 UsernamePasswordAuthenticationToken authentication =
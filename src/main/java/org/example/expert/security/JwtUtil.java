@@ -1,6 +1,10 @@
 package org.example.expert.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -12,26 +16,54 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j(topic = "JwtUtil")
 @Component
 public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
 
     @Value("${jwt.secret.key}")
     private String secretKey;
+    @Value("${jwt.verified-cache.enabled:true}")
+    private boolean verifiedCacheEnabled;
+    @Value("${jwt.verified-cache.max-size:100000}")
+    private long verifiedCacheMaxSize;
+
     private Key key;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+    // 불변/스레드 안전 - 요청마다 parserBuilder().build() 하지 않고 하나를 재사용
+    private JwtParser parser;
+    // 토큰 SHA-256 다이제스트 -> 검증된 Claims, 각 항목은 토큰의 exp 시각에 만료
+    private Cache<ByteBuffer, Claims> verifiedTokens;
+    private MessageDigest sha256;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+        try {
+            sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     public String createToken(Long userId, String email, UserRole userRole,String nickname) {
@@ -40,6 +72,7 @@ public class JwtUtil {
         return BEARER_PREFIX +
                 Jwts.builder()
                         .setSubject(String.valueOf(userId))
+                        .setId(UUID.randomUUID().toString()) // 토큰 단위 폐기(TokenRevocationStore)용
                         .claim("email", email)
                         .claim("userRole", userRole)
                         .claim("nickname",nickname)
@@ -56,15 +89,57 @@ public class JwtUtil {
         throw new ServerException("Not Found Token");
     }
 
+    /**
+     * 같은 토큰이 다시 오면 Base64 디코드/HMAC 검증/JSON 파싱 대신 다이제스트 조회로 끝난다.
+     * 검증 실패(서명/만료 등)는 캐시하지 않고 매번 예외를 던진다. 반환값은 읽기 전용으로 사용한다.
+     */
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        if (!verifiedCacheEnabled) {
+            return parse(token);
+        }
+        return verifiedTokens.get(digest(token), digest -> parse(token));
     }
 
     public String extractUserId(String token) {
         return extractClaims(token).getSubject();
     }
+
+    private Claims parse(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    private ByteBuffer digest(String token) {
+        try {
+            MessageDigest md = (MessageDigest) sha256.clone();
+            return ByteBuffer.wrap(md.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 생성 시점에 토큰의 남은 수명으로 만료를 정하고, 읽기/갱신으로는 연장하지 않는다.
+     */
+    private static class TokenExpiry implements Expiry<ByteBuffer, Claims> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer digest, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0L;
+            }
+            long millis = expiration.getTime() - System.currentTimeMillis();
+            return millis > 0 ? TimeUnit.MILLISECONDS.toNanos(millis) : 0L;
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer digest, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer digest, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,180 @@
+package org.example.expert.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * bcrypt 전용 실행기 - 해시/검증을 크기가 고정된 풀에서만 수행해 로그인 폭주 시에도
+ * 서블릿 스레드 전체가 해시 계산에 묶이지 않게 한다.
+ * 대기열까지 차면 기다리지 않고 바로 503(ServiceUnavailableException)으로 거절한다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    // 일괄 해시가 동시에 점유할 수 있는 스레드 수 - 나머지는 로그인/가입용으로 남겨둔다
+    private final int bulkParallelism;
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            @Value("${password.hashing.threads:0}") int threads,
+            @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${password.hashing.timeout:5s}") Duration timeout
+    ) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+        this.bulkParallelism = Math.max(1, poolSize / 2);
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 검증과 재해시를 한 작업으로 처리 - 저장된 해시의 cost 가 현재 설정보다 낮으면 새 해시를 함께 돌려준다.
+     */
+    public Verification verify(String rawPassword, String encodedPassword) {
+        return submit(() -> {
+            if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+                return Verification.MISMATCH;
+            }
+            if (passwordEncoder.upgradeEncoding(encodedPassword)) {
+                return new Verification(true, passwordEncoder.encode(rawPassword));
+            }
+            return Verification.MATCH;
+        });
+    }
+
+    /**
+     * 일괄 해시 (대량 가입) - 풀 스레드의 절반과 호출 스레드가 나눠 병렬로 계산한다.
+     * 작업자 하나가 비밀번호 하나씩 가져가므로 대기열을 길게 점유하지 않고, 대기열이 차 있으면
+     * 503 대신 호출 스레드에서 직접 계산해 자연스럽게 속도를 늦춘다.
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        String[] encoded = new String[rawPasswords.size()];
+        AtomicInteger next = new AtomicInteger();
+        Runnable worker = () -> {
+            int index;
+            while ((index = next.getAndIncrement()) < encoded.length) {
+                encoded[index] = passwordEncoder.encode(rawPasswords.get(index));
+            }
+        };
+
+        int workers = Math.min(bulkParallelism, encoded.length);
+        List<Future<?>> futures = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            try {
+                futures.add(executor.submit(worker));
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+        worker.run();
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServerException("Password hashing interrupted");
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new ServerException("Password hashing failed");
+            }
+        }
+        return Arrays.asList(encoded);
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> work) {
+        Future<T> future;
+        try {
+            future = executor.submit(work);
+        } catch (RejectedExecutionException e) {
+            log.warn("Password hashing rejected: queue={}", executor.getQueue().size());
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("Password hashing interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServerException("Password hashing failed");
+        }
+    }
+
+    @Getter
+    public static class Verification {
+
+        private static final Verification MATCH = new Verification(true, null);
+        private static final Verification MISMATCH = new Verification(false, null);
+
+        private final boolean matched;
+        // cost 변경으로 다시 만든 해시 (재해시가 필요 없으면 null)
+        private final String rehashed;
+
+        private Verification(boolean matched, String rehashed) {
+            this.matched = matched;
+            this.rehashed = rehashed;
+        }
+    }
+}
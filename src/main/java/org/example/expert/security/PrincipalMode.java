@@ -0,0 +1,11 @@
+package org.example.expert.security;
+
+/**
+ * JwtFilter 가 인증 주체(CustomUserDetails)를 만드는 방식
+ */
+public enum PrincipalMode {
+    // userId 로 조회한 유저를 만료/크기 제한 캐시에 보관 (권한 변경은 커밋 직후 반영)
+    CACHE,
+    // 토큰 클레임(email/userRole/nickname)만으로 구성 - DB 조회 없음, 권한 변경은 토큰 재발급 후 반영
+    CLAIMS
+}
@@ -0,0 +1,92 @@
+package org.example.expert.security;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.jsonwebtoken.Claims;
+import org.example.expert.cache.dto.PrincipalCacheStatsResponse;
+import org.example.expert.cache.support.AsyncCacheLoader;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.event.UserUpdatedEvent;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * JwtFilter 의 인증 주체 조회 - 요청마다 users 테이블을 읽지 않도록 userId 기준으로 캐시하거나(CACHE)
+ * 토큰 클레임만으로 구성한다(CLAIMS). 캐시된 주체에는 비밀번호 해시를 담지 않는다.
+ */
+@Component
+public class PrincipalResolver {
+
+    private final UserRepository userRepository;
+    private final PrincipalMode mode;
+    // 조회는 캐시 락 밖에서 (AsyncCacheLoader)
+    private final AsyncCache<Long, CustomUserDetails> cache;
+
+    public PrincipalResolver(
+            UserRepository userRepository,
+            @Value("${jwt.principal.mode:CACHE}") PrincipalMode mode,
+            @Value("${jwt.principal.cache.ttl:5m}") Duration ttl,
+            @Value("${jwt.principal.cache.max-size:10000}") long maxSize
+    ) {
+        this.userRepository = userRepository;
+        this.mode = mode;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * @return 존재하지 않는 사용자면 null
+     */
+    public CustomUserDetails resolve(Claims claims) {
+        Long userId = Long.parseLong(claims.getSubject());
+        if (mode == PrincipalMode.CLAIMS) {
+            return new CustomUserDetails(
+                    userId,
+                    claims.get("email", String.class),
+                    UserRole.of(claims.get("userRole", String.class)),
+                    claims.get("nickname", String.class)
+            );
+        }
+        return getCached(userId);
+    }
+
+    public CustomUserDetails getCached(Long userId) {
+        return AsyncCacheLoader.get(cache, userId, this::load);
+    }
+
+    /**
+     * 커밋 이후에 비워야 변경 전 값을 다시 읽어 캐시하는 일이 없다.
+     */
+    @TransactionalEventListener
+    public void onUserUpdated(UserUpdatedEvent event) {
+        cache.synchronous().invalidate(event.getUserId());
+    }
+
+    public PrincipalCacheStatsResponse getStats() {
+        CacheStats stats = cache.synchronous().stats();
+        return new PrincipalCacheStatsResponse(
+                mode.name(),
+                cache.synchronous().estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.loadCount(),
+                stats.loadFailureCount(),
+                stats.averageLoadPenalty() / 1_000_000.0,
+                stats.evictionCount()
+        );
+    }
+
+    private CustomUserDetails load(Long userId) {
+        return userRepository.findById(userId)
+                .map(user -> new CustomUserDetails(user.getId(), user.getEmail(), user.getUserRole(), user.getNickname()))
+                .orElse(null);
+    }
+}
@@ -0,0 +1,265 @@
+package org.example.expert.security;
+
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * JWT 폐기 목록 - 요청마다 DB 를 보지 않도록 메모리에서 O(1) 로 확인한다.
+ * <ul>
+ *     <li>토큰 단위: 토큰 exp 가 속한 1분 버킷에 jti 를 넣는다. 조회는 exp 로 버킷을 바로 찾으므로 해시 조회 두 번이면 끝나고,
+ *     버킷은 그 안의 토큰이 모두 만료되면 통째로 버린다.</li>
+ *     <li>사용자 단위: userId -> notBefore, 그 이전에 발급(iat)된 토큰은 모두 무효. 토큰 최대 수명이 지나면 버린다.</li>
+ * </ul>
+ * 재시작 후에도 유지되도록 변경이 있으면 주기적으로(그리고 종료 시) 스냅샷 파일로 내려쓰고 기동 시 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationStore {
+
+    private static final long BUCKET_MILLIS = 60_000L;
+    private static final int SNAPSHOT_MAGIC = 0x4A525631; // "JRV1"
+
+    private final int maxTokens;
+    private final Path snapshotPath;
+    private final Duration snapshotInterval;
+
+    // exp 버킷(exp / BUCKET_MILLIS) -> 그 구간에 만료되는 폐기 토큰 jti
+    private final Map<Long, Set<String>> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger tokenCount = new AtomicInteger();
+    // userId -> 이 시각(ms) 이전에 발급된 토큰은 무효
+    private final Map<Long, Long> notBefore = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    private ScheduledExecutorService scheduler;
+
+    public TokenRevocationStore(
+            @Value("${jwt.revocation.max-tokens:1000000}") int maxTokens,
+            @Value("${jwt.revocation.snapshot-path:}") String snapshotPath,
+            @Value("${jwt.revocation.snapshot-interval:30s}") Duration snapshotInterval
+    ) {
+        this.maxTokens = maxTokens;
+        this.snapshotPath = StringUtils.hasText(snapshotPath) ? Paths.get(snapshotPath) : null;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    @PostConstruct
+    public void init() {
+        load();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-revocation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = snapshotInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                purgeExpired();
+                snapshot();
+            } catch (RuntimeException e) {
+                log.warn("Token revocation maintenance failed", e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        snapshot();
+    }
+
+    public boolean isRevoked(Claims claims) {
+        if (!notBefore.isEmpty()) {
+            Long userNotBefore = notBefore.get(Long.parseLong(claims.getSubject()));
+            Date issuedAt = claims.getIssuedAt();
+            if (userNotBefore != null && (issuedAt == null || issuedAt.getTime() < userNotBefore)) {
+                return true;
+            }
+        }
+
+        String tokenId = claims.getId();
+        Date expiration = claims.getExpiration();
+        if (tokenId == null || expiration == null) {
+            return false;
+        }
+        Set<String> bucket = buckets.get(expiration.getTime() / BUCKET_MILLIS);
+        return bucket != null && bucket.contains(tokenId);
+    }
+
+    /**
+     * 토큰 하나를 폐기 - jti 가 없는(이전 형식) 토큰이거나 목록이 가득 차면 그 사용자의 토큰 전체를 폐기한다.
+     */
+    public void revoke(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null || expiration.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+
+        String tokenId = claims.getId();
+        if (tokenId == null || tokenCount.get() >= maxTokens) {
+            log.warn("Revoking all tokens of user {} (jti: {}, revoked tokens: {})", claims.getSubject(), tokenId, tokenCount.get());
+            revokeAll(Long.parseLong(claims.getSubject()));
+            return;
+        }
+
+        Set<String> bucket = buckets.computeIfAbsent(expiration.getTime() / BUCKET_MILLIS, key -> ConcurrentHashMap.newKeySet());
+        if (bucket.add(tokenId)) {
+            tokenCount.incrementAndGet();
+            dirty.set(true);
+        }
+    }
+
+    /**
+     * 지금까지 발급된 사용자의 토큰을 모두 폐기
+     * iat 는 초 단위라 같은 초에 발급된 토큰까지 막도록 다음 초 경계로 올린다.
+     */
+    public void revokeAll(Long userId) {
+        long next = (System.currentTimeMillis() / 1000L + 1) * 1000L;
+        notBefore.merge(userId, next, Math::max);
+        dirty.set(true);
+    }
+
+    public int getRevokedTokenCount() {
+        return tokenCount.get();
+    }
+
+    public int getRevokedUserCount() {
+        return notBefore.size();
+    }
+
+    /**
+     * 안의 토큰이 모두 만료된 버킷과 토큰 최대 수명이 지난 사용자 항목을 버린다.
+     */
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        long currentBucket = now / BUCKET_MILLIS;
+
+        List<Long> expired = new ArrayList<>();
+        for (Long key : buckets.keySet()) {
+            if (key < currentBucket) {
+                expired.add(key);
+            }
+        }
+        for (Long key : expired) {
+            Set<String> removed = buckets.remove(key);
+            if (removed != null) {
+                tokenCount.addAndGet(-removed.size());
+                dirty.set(true);
+            }
+        }
+
+        if (notBefore.values().removeIf(at -> at + JwtUtil.TOKEN_TIME <= now)) {
+            dirty.set(true);
+        }
+    }
+
+    /**
+     * 변경이 있을 때만 임시 파일에 쓴 뒤 교체한다. (쓰는 도중 종료돼도 이전 스냅샷은 남는다)
+     */
+    public void snapshot() {
+        if (snapshotPath == null || !dirty.getAndSet(false)) {
+            return;
+        }
+
+        try {
+            Path directory = snapshotPath.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, snapshotPath.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeLong(BUCKET_MILLIS);
+
+                Map<Long, Set<String>> bucketsCopy = Map.copyOf(buckets);
+                out.writeInt(bucketsCopy.size());
+                for (Map.Entry<Long, Set<String>> bucket : bucketsCopy.entrySet()) {
+                    List<String> tokenIds = List.copyOf(bucket.getValue());
+                    out.writeLong(bucket.getKey());
+                    out.writeInt(tokenIds.size());
+                    for (String tokenId : tokenIds) {
+                        out.writeUTF(tokenId);
+                    }
+                }
+
+                Map<Long, Long> notBeforeCopy = Map.copyOf(notBefore);
+                out.writeInt(notBeforeCopy.size());
+                for (Map.Entry<Long, Long> user : notBeforeCopy.entrySet()) {
+                    out.writeLong(user.getKey());
+                    out.writeLong(user.getValue());
+                }
+            }
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty.set(true);
+            log.warn("Failed to write token revocation snapshot: {}", snapshotPath, e);
+        }
+    }
+
+    private void load() {
+        if (snapshotPath == null || !Files.exists(snapshotPath)) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long currentBucket = now / BUCKET_MILLIS;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readLong() != BUCKET_MILLIS) {
+                log.warn("Ignoring incompatible token revocation snapshot: {}", snapshotPath);
+                return;
+            }
+
+            int bucketCount = in.readInt();
+            for (int i = 0; i < bucketCount; i++) {
+                long key = in.readLong();
+                int size = in.readInt();
+                Set<String> bucket = ConcurrentHashMap.newKeySet(size);
+                for (int j = 0; j < size; j++) {
+                    bucket.add(in.readUTF());
+                }
+                if (key >= currentBucket) {
+                    buckets.put(key, bucket);
+                    tokenCount.addAndGet(bucket.size());
+                }
+            }
+
+            int userCount = in.readInt();
+            for (int i = 0; i < userCount; i++) {
+                long userId = in.readLong();
+                long at = in.readLong();
+                if (at + JwtUtil.TOKEN_TIME > now) {
+                    notBefore.put(userId, at);
+                }
+            }
+            log.info("Token revocation snapshot loaded - tokens: {}, users: {}", tokenCount.get(), notBefore.size());
+        } catch (IOException e) {
+            log.warn("Failed to read token revocation snapshot: {}", snapshotPath, e);
+        }
+    }
+}
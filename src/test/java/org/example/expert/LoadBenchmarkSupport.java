@@ -0,0 +1,152 @@
+package org.example.expert;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 앱을 통째로 띄워(H2, 2차 캐시 끔) GET /todos/{id} 를 동시에 호출하는 부하 벤치마크 공통 코드
+ */
+final class LoadBenchmarkSupport {
+
+    static final int TODOS = 1_000;
+    private static final String SECRET = Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret-key".getBytes());
+
+    private LoadBenchmarkSupport() {
+    }
+
+    /**
+     * @param extraArgs application.yml 보다 우선하도록 커맨드라인 인자로 전달
+     */
+    static ConfigurableApplicationContext start(String databaseName, int poolSize, String... extraArgs) {
+        String[] args = Stream.concat(Stream.of(
+                "--server.port=0",
+                "--management.server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:" + databaseName + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.properties.hibernate.show_sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                // 캐시 히트가 아니라 DB 블로킹 경로를 비교
+                "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "--spring.jpa.properties.hibernate.cache.use_query_cache=false",
+                "--jwt.secret.key=" + SECRET,
+                "--jwt.revocation.snapshot-path=",
+                // 외부 날씨 API 대신 바로 실패하는 주소 (기동 시 미리 받기 실패 로그 억제)
+                "--weather.base-url=http://localhost:9",
+                "--logging.level.org.example.expert.client=ERROR",
+                "--logging.level.root=WARN"
+        ), Stream.of(extraArgs)).toArray(String[]::new);
+        return new SpringApplicationBuilder(ExpertApplication.class).run(args);
+    }
+
+    static void seed(JdbcTemplate jdbcTemplate) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role, nickname, created_at, modified_at) VALUES (1, 'user1@example.com', 'x', 'USER', 'nick-1', ?, ?)", now, now);
+
+        List<Object[]> todos = new ArrayList<>();
+        List<Object[]> counts = new ArrayList<>();
+        for (long id = 1; id <= TODOS; id++) {
+            todos.add(new Object[]{id, "title-" + id, "contents-" + id, "Sunny", 1L, now, now});
+            counts.add(new Object[]{id, 0L, 0L});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?)", todos);
+        jdbcTemplate.batchUpdate("INSERT INTO todo_counts (todo_id, manager_count, comment_count, manager_version, comment_version) VALUES (?, ?, ?, 0, 0)", counts);
+    }
+
+    static HttpClient httpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    static Result load(HttpClient client, int port, String token, int concurrency, int seconds) throws Exception {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        AtomicLong errors = new AtomicLong();
+
+        List<Future<long[]>> workers = new ArrayList<>();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(callers.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/todos/" + (ThreadLocalRandom.current().nextInt(TODOS) + 1)))
+                                .header("Authorization", token)
+                                .GET()
+                                .build();
+                        long start = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        long elapsed = System.nanoTime() - start;
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = elapsed;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+        }
+
+        List<long[]> all = new ArrayList<>();
+        for (Future<long[]> worker : workers) {
+            all.add(worker.get());
+        }
+        long[] latencies = all.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(latencies, seconds, errors.get());
+    }
+
+    static class Result {
+
+        private final long[] sortedLatencies;
+        private final int seconds;
+        final long errors;
+
+        private Result(long[] sortedLatencies, int seconds, long errors) {
+            this.sortedLatencies = sortedLatencies;
+            this.seconds = seconds;
+            this.errors = errors;
+        }
+
+        double throughput() {
+            return (double) sortedLatencies.length / seconds;
+        }
+
+        double percentileMillis(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("requests=%d throughput=%.0f req/s p50=%.2fms p99=%.2fms errors=%d",
+                    sortedLatencies.length, throughput(), percentileMillis(0.50), percentileMillis(0.99), errors);
+        }
+    }
+}
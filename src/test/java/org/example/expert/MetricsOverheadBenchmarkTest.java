@@ -0,0 +1,106 @@
+package org.example.expert;
+
+import org.example.expert.LoadBenchmarkSupport.Result;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.security.JwtUtil;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지표 수집 비용 - 지표/관측을 모두 끈 앱 vs 기본 설정(히스토그램 포함) + 1초마다 /actuator/prometheus 수집
+ * 같은 부하(GET /todos/{id})에서 처리량과 p50/p99 차이를 본다.
+ * ./gradlew benchmark 로 실행, -Dbenchmark.concurrency / -Dbenchmark.duration-seconds 로 조절
+ */
+@Tag("benchmark")
+class MetricsOverheadBenchmarkTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 32);
+    private static final int DURATION_SECONDS = Integer.getInteger("benchmark.duration-seconds", 10);
+    private static final int WARMUP_SECONDS = Integer.getInteger("benchmark.warmup-seconds", 5);
+    private static final int POOL_SIZE = Integer.getInteger("benchmark.pool-size", 10);
+    private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 2);
+
+    @Test
+    void 지표를_켜도_처리량과_지연이_크게_달라지지_않는다() throws Exception {
+        // 같은 JVM 에서 뒤에 띄운 앱이 JIT 덕을 보므로 순서를 번갈아 여러 번 돌리고 모드별 최고 처리량을 비교
+        Result off = null;
+        Result on = null;
+        for (int round = 0; round < ROUNDS; round++) {
+            boolean metricsFirst = round % 2 == 1;
+            Result first = run(metricsFirst, round);
+            Result second = run(!metricsFirst, round);
+            Result roundOff = metricsFirst ? second : first;
+            Result roundOn = metricsFirst ? first : second;
+            off = off == null || roundOff.throughput() > off.throughput() ? roundOff : off;
+            on = on == null || roundOn.throughput() > on.throughput() ? roundOn : on;
+        }
+
+        System.out.printf("[metrics benchmark] concurrency=%d pool=%d duration=%ds rounds=%d%n", CONCURRENCY, POOL_SIZE, DURATION_SECONDS, ROUNDS);
+        System.out.println("[metrics benchmark] metrics off " + off);
+        System.out.println("[metrics benchmark] metrics on  " + on);
+        System.out.printf("[metrics benchmark] throughput overhead=%.1f%% p99 delta=%.2fms%n",
+                (1 - on.throughput() / off.throughput()) * 100, on.percentileMillis(0.99) - off.percentileMillis(0.99));
+
+        assertThat(off.errors).isZero();
+        assertThat(on.errors).isZero();
+    }
+
+    private Result run(boolean metrics, int round) throws Exception {
+        String[] args = metrics
+                ? new String[0]
+                : new String[]{"--management.metrics.enable.all=false", "--management.observations.enable.all=false"};
+        try (ConfigurableApplicationContext context = LoadBenchmarkSupport.start("metrics-" + metrics + "-" + round, POOL_SIZE, args)) {
+            LoadBenchmarkSupport.seed(context.getBean(JdbcTemplate.class));
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            int managementPort = context.getEnvironment().getRequiredProperty("local.management.port", Integer.class);
+            String token = context.getBean(JwtUtil.class).createToken(1L, "user1@example.com", UserRole.USER, "nick-1");
+
+            HttpClient client = LoadBenchmarkSupport.httpClient();
+            LoadBenchmarkSupport.load(client, port, token, CONCURRENCY, WARMUP_SECONDS);
+
+            // 켠 경우에는 Prometheus 처럼 주기적으로 수집하면서 측정
+            AtomicReference<String> lastScrape = new AtomicReference<>("");
+            ScheduledExecutorService scraper = Executors.newSingleThreadScheduledExecutor();
+            if (metrics) {
+                scraper.scheduleAtFixedRate(() -> lastScrape.set(scrape(client, managementPort)), 0, 1, TimeUnit.SECONDS);
+            }
+            try {
+                Result result = LoadBenchmarkSupport.load(client, port, token, CONCURRENCY, DURATION_SECONDS);
+                if (metrics) {
+                    assertThat(lastScrape.get())
+                            .contains("http_server_requests_seconds_bucket")
+                            .contains("hikaricp_connections_active")
+                            .contains("hibernate_sessions_open_total")
+                            .contains("weather_client_circuit_state")
+                            .contains("log_writer_queue_depth");
+                }
+                return result;
+            } finally {
+                scraper.shutdownNow();
+            }
+        }
+    }
+
+    private static String scrape(HttpClient client, int managementPort) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + managementPort + "/actuator/prometheus")).GET().build();
+            return client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        } catch (Exception e) {
+            return "";
+        }
+    }
+}
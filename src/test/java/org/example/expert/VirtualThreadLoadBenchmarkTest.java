@@ -0,0 +1,54 @@
+package org.example.expert;
+
+import org.example.expert.LoadBenchmarkSupport.Result;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.security.JwtUtil;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.http.HttpClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 부하 테스트 - 같은 커넥션 풀 크기에서 플랫폼 스레드(Tomcat 기본 풀) vs 가상 스레드(spring.threads.virtual.enabled)
+ * 앱을 모드별로 띄워(H2, 2차 캐시 끔) GET /todos/{id} 를 동시에 호출하고 처리량과 p50/p99 를 비교한다.
+ * ./gradlew benchmark 로 실행, -Dbenchmark.concurrency / -Dbenchmark.duration-seconds / -Dbenchmark.pool-size 로 조절
+ */
+@Tag("benchmark")
+class VirtualThreadLoadBenchmarkTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 400);
+    private static final int DURATION_SECONDS = Integer.getInteger("benchmark.duration-seconds", 10);
+    private static final int WARMUP_SECONDS = Integer.getInteger("benchmark.warmup-seconds", 3);
+    private static final int POOL_SIZE = Integer.getInteger("benchmark.pool-size", 10);
+
+    @Test
+    void 플랫폼_스레드와_가상_스레드의_처리량과_p99_를_비교한다() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf("[load benchmark] concurrency=%d pool=%d duration=%ds%n", CONCURRENCY, POOL_SIZE, DURATION_SECONDS);
+        System.out.println("[load benchmark] platform " + platform);
+        System.out.println("[load benchmark] virtual  " + virtual);
+
+        assertThat(platform.errors).isZero();
+        assertThat(virtual.errors).isZero();
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = LoadBenchmarkSupport.start("load-" + virtualThreads, POOL_SIZE,
+                "--spring.threads.virtual.enabled=" + virtualThreads)) {
+            LoadBenchmarkSupport.seed(context.getBean(JdbcTemplate.class));
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            String token = context.getBean(JwtUtil.class).createToken(1L, "user1@example.com", UserRole.USER, "nick-1");
+
+            HttpClient client = LoadBenchmarkSupport.httpClient();
+            LoadBenchmarkSupport.load(client, port, token, CONCURRENCY, WARMUP_SECONDS);
+            return LoadBenchmarkSupport.load(client, port, token, CONCURRENCY, DURATION_SECONDS);
+        }
+    }
+}
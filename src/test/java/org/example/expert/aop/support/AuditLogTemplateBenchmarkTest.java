@@ -0,0 +1,82 @@
+package org.example.expert.aop.support;
+
+import org.example.expert.aop.annotation.AuditLog;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 감사 로그 메시지 생성 - 예전 방식(클래스 이름 비교 + getMethod().invoke + String.format) vs 미리 해석한 AuditLogTemplate
+ * ./gradlew benchmark 로 실행, -Dbenchmark.iterations 로 조절
+ */
+@Tag("benchmark")
+class AuditLogTemplateBenchmarkTest {
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 2_000_000);
+    private static final int ROUNDS = 5;
+
+    @Test
+    void 미리_해석한_템플릿이_리플렉션과_String_format_보다_빠르다() throws Exception {
+        Method method = Target.class.getDeclaredMethod("saveManager", String.class, long.class, ManagerSaveRequest.class);
+        AuditLogTemplate template = AuditLogTemplate.compile(method, method.getAnnotation(AuditLog.class));
+        Object[] args = {"ignored", 3L, new ManagerSaveRequest(42L)};
+
+        // 두 방식이 같은 메시지를 만드는지 먼저 확인
+        assertThat(template.render(args, "7", "/todos/3/managers")).isEqualTo(legacy(args, "7", "/todos/3/managers", method.getName()));
+
+        double legacyNanos = Double.MAX_VALUE;
+        double templateNanos = Double.MAX_VALUE;
+        long sink = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                sink += legacy(args, "7", "/todos/3/managers", method.getName()).length();
+            }
+            legacyNanos = Math.min(legacyNanos, (System.nanoTime() - start) / (double) ITERATIONS);
+
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                sink += template.render(args, "7", "/todos/3/managers").length();
+            }
+            templateNanos = Math.min(templateNanos, (System.nanoTime() - start) / (double) ITERATIONS);
+        }
+
+        System.out.printf("[audit benchmark] iterations=%d best of %d rounds (sink=%d)%n", ITERATIONS, ROUNDS, sink);
+        System.out.printf("[audit benchmark] reflection + String.format : %.1f ns/op%n", legacyNanos);
+        System.out.printf("[audit benchmark] AuditLogTemplate           : %.1f ns/op (x%.1f)%n", templateNanos, legacyNanos / templateNanos);
+
+        assertThat(templateNanos).isLessThan(legacyNanos);
+    }
+
+    /**
+     * 예전 ManagerLogAspect 의 메시지 생성 방식
+     */
+    private static String legacy(Object[] args, String userId, String url, String methodName) {
+        String managerArg;
+        Object arg = args[2];
+        if (arg.getClass().getSimpleName().contains("ManagerSaveRequest")) {
+            try {
+                managerArg = "ManagerSaveRequest[managerId=" + arg.getClass().getMethod("getManagerUserId").invoke(arg) + "]";
+            } catch (Exception e) {
+                managerArg = arg.getClass().getSimpleName();
+            }
+        } else {
+            managerArg = arg.toString();
+        }
+        return String.format("매니저 등록 요청 - UserID: %s, URL: %s, Method: %s, Args: TodoId=%s, %s",
+                userId, url, methodName, args[1], managerArg);
+    }
+
+    static class Target {
+
+        @AuditLog(action = "MANAGER_REGISTER",
+                message = "매니저 등록 요청 - UserID: {userId}, URL: {url}, Method: {method}, "
+                        + "Args: TodoId={todoId}, ManagerSaveRequest[managerId={managerSaveRequest.managerUserId}]")
+        void saveManager(String ignored, long todoId, ManagerSaveRequest managerSaveRequest) {
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.expert.aop.support;
+
+import org.example.expert.aop.annotation.AuditLog;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuditLogTemplateTest {
+
+    @Test
+    void 고정_문자열과_인자_선택자를_이어_붙여_렌더링한다() throws Exception {
+        AuditLogTemplate template = compile("saveManager");
+
+        String message = template.render(new Object[]{"ignored", 3L, new ManagerSaveRequest(42L)}, "7", "/todos/3/managers");
+
+        assertThat(template.getAction()).isEqualTo("MANAGER_REGISTER");
+        assertThat(message).isEqualTo("MANAGER_REGISTER - UserID: 7, URL: /todos/3/managers, Method: saveManager, "
+                + "TodoId=3, ManagerId=42");
+    }
+
+    @Test
+    void 선택자_경로_중간이_null_이면_null_로_남기고_긴_값은_자른다() throws Exception {
+        AuditLogTemplate template = compile("saveManager");
+        assertThat(template.render(new Object[]{"ignored", 3L, null}, "7", "-")).endsWith("ManagerId=null");
+
+        AuditLogTemplate indexed = compile("comment");
+        String message = indexed.render(new Object[]{"x".repeat(500)}, "NULL", "-");
+        assertThat(message).isEqualTo("comment: " + "x".repeat(200) + "...");
+    }
+
+    @Test
+    void 없는_파라미터나_getter_를_가리키면_해석_시점에_실패한다() {
+        assertThatThrownBy(() -> compile("unknownParameter"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("missing");
+        assertThatThrownBy(() -> compile("unknownGetter"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("managerName");
+    }
+
+    private AuditLogTemplate compile(String methodName) throws NoSuchMethodException {
+        for (Method method : Target.class.getDeclaredMethods()) {
+            if (method.getName().equals(methodName)) {
+                return AuditLogTemplate.compile(method, method.getAnnotation(AuditLog.class));
+            }
+        }
+        throw new NoSuchMethodException(methodName);
+    }
+
+    static class Target {
+
+        @AuditLog(action = "MANAGER_REGISTER",
+                message = "{action} - UserID: {userId}, URL: {url}, Method: {method}, "
+                        + "TodoId={todoId}, ManagerId={managerSaveRequest.managerUserId}")
+        void saveManager(String ignored, long todoId, ManagerSaveRequest managerSaveRequest) {
+        }
+
+        @AuditLog(action = "COMMENT", message = "comment: {0}")
+        void comment(String contents) {
+        }
+
+        @AuditLog(action = "X", message = "{missing}")
+        void unknownParameter(long todoId) {
+        }
+
+        @AuditLog(action = "X", message = "{request.managerName}")
+        void unknownGetter(ManagerSaveRequest request) {
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package org.example.expert.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.client.dto.WeatherClientStatsResponse;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.example.expert.client.WeatherStubServer.ok;
+import static org.example.expert.client.WeatherStubServer.serverError;
+import static org.example.expert.client.WeatherStubServer.slow;
+
+class WeatherClientTest {
+
+    private final WeatherStubServer stub = new WeatherStubServer();
+
+    WeatherClientTest() throws IOException {
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    void 동시에_들어온_첫_조회는_한_번의_다운로드를_함께_기다린다() throws Exception {
+        WeatherClient weatherClient = client(Duration.ofSeconds(2), 3, Duration.ofSeconds(30));
+        // 나머지 요청이 모두 들어올 때까지 응답을 늦춘다
+        stub.respondByDefault(slow(Duration.ofMillis(300), "Sunny"));
+
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(weatherClient::loadTodayWeather));
+            }
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("Sunny");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 이후 조회는 네트워크 없이 맵에서
+        assertThat(weatherClient.loadTodayWeather()).isEqualTo("Sunny");
+        assertThat(stub.requestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 갱신에_실패하면_마지막으로_받은_데이터를_계속_쓴다() {
+        WeatherClient weatherClient = client(Duration.ofSeconds(2), 3, Duration.ofSeconds(30));
+        stub.enqueue(ok("Sunny"), serverError());
+
+        assertThat(weatherClient.loadTodayWeather()).isEqualTo("Sunny");
+        weatherClient.refreshPeriodically();
+
+        assertThat(weatherClient.loadTodayWeather()).isEqualTo("Sunny");
+        assertThat(stub.requestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 응답이_read_timeout_보다_늦으면_기다리지_않고_실패한다() {
+        WeatherClient weatherClient = client(Duration.ofMillis(300), 3, Duration.ofSeconds(30));
+        stub.respondByDefault(slow(Duration.ofSeconds(3), "Sunny"));
+
+        long start = System.nanoTime();
+        assertThatThrownBy(weatherClient::loadTodayWeather).isInstanceOf(RuntimeException.class);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(2));
+        assertThat(weatherClient.getStats().getFailureCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 연속으로_실패하면_서킷이_열려_호출하지_않고_바로_실패한다() throws Exception {
+        WeatherClient weatherClient = client(Duration.ofSeconds(2), 2, Duration.ofMillis(300));
+        stub.respondByDefault(serverError());
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(weatherClient::loadTodayWeather).isInstanceOf(RuntimeException.class);
+        }
+        for (int i = 0; i < 3; i++) {
+            assertCircuitOpen(weatherClient);
+        }
+
+        // 2번 실패 후에는 상류 서버를 호출하지 않는다
+        assertThat(stub.requestCount()).isEqualTo(2);
+        WeatherClientStatsResponse stats = weatherClient.getStats();
+        assertThat(stats.getCircuitState()).isEqualTo("OPEN");
+        assertThat(stats.getRejectedCount()).isEqualTo(3);
+
+        // open-duration 이 지나면 시험 호출 1회로 복구
+        stub.respondByDefault(ok("Sunny"));
+        Thread.sleep(400);
+        assertThat(weatherClient.loadTodayWeather()).isEqualTo("Sunny");
+        assertThat(weatherClient.getStats().getCircuitState()).isEqualTo("CLOSED");
+        assertThat(stub.requestCount()).isEqualTo(3);
+    }
+
+    @Test
+    void 상류_서버가_오락가락하면_시험_호출이_실패할_때마다_서킷을_다시_연다() throws Exception {
+        WeatherClient weatherClient = client(Duration.ofSeconds(2), 1, Duration.ofMillis(200));
+        stub.enqueue(serverError(), serverError(), ok("Rainy"));
+
+        assertThatThrownBy(weatherClient::loadTodayWeather).isInstanceOf(RuntimeException.class);
+        Thread.sleep(250);
+        // 시험 호출 실패 -> 다시 OPEN, 바로 이어지는 조회는 호출하지 않는다
+        assertThatThrownBy(weatherClient::loadTodayWeather).isInstanceOf(RuntimeException.class);
+        assertCircuitOpen(weatherClient);
+        assertThat(stub.requestCount()).isEqualTo(2);
+
+        Thread.sleep(250);
+        assertThat(weatherClient.loadTodayWeather()).isEqualTo("Rainy");
+        assertThat(weatherClient.getStats().getOpenCount()).isEqualTo(2);
+        assertThat(stub.requestCount()).isEqualTo(3);
+    }
+
+    @Test
+    void 다운로드_지연과_서킷_상태를_MeterRegistry_에_기록한다() {
+        WeatherClient weatherClient = client(Duration.ofSeconds(2), 1, Duration.ofSeconds(30));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        weatherClient.bindTo(registry);
+        stub.enqueue(serverError());
+
+        assertThatThrownBy(weatherClient::loadTodayWeather).isInstanceOf(RuntimeException.class);
+        assertCircuitOpen(weatherClient);
+
+        assertThat(registry.get("weather.client.requests").tag("outcome", "FAILURE").timer().count()).isEqualTo(1);
+        assertThat(registry.get("weather.client.requests").tag("outcome", "SUCCESS").timer().count()).isZero();
+        assertThat(registry.get("weather.client.circuit.state").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("weather.client.circuit.rejected").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    private static void assertCircuitOpen(WeatherClient weatherClient) {
+        assertThatThrownBy(weatherClient::loadTodayWeather)
+                .isInstanceOf(ServerException.class)
+                .hasMessageContaining("서킷 열림");
+    }
+
+    private WeatherClient client(Duration readTimeout, int failureThreshold, Duration openDuration) {
+        return new WeatherClient(new RestTemplateBuilder(), stub.baseUrl(),
+                Duration.ofSeconds(1), readTimeout, failureThreshold, openDuration);
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 weather.json 스텁 서버 (localhost 임의 포트)
+ * 요청마다 큐에 넣어둔 응답을 하나씩 꺼내 쓰고, 비어 있으면 마지막 기본 응답을 쓴다.
+ * 느린 응답/5xx/성공을 섞어 넣으면 불안정한 상류 서버를 흉내낼 수 있다.
+ */
+class WeatherStubServer implements AutoCloseable {
+
+    static final String PATH = "/f-api/weather.json";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Queue<Reply> replies = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile Reply defaultReply = ok("Sunny");
+
+    WeatherStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(PATH, this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    int requestCount() {
+        return requestCount.get();
+    }
+
+    WeatherStubServer enqueue(Reply... replies) {
+        this.replies.addAll(List.of(replies));
+        return this;
+    }
+
+    WeatherStubServer respondByDefault(Reply reply) {
+        this.defaultReply = reply;
+        return this;
+    }
+
+    static Reply ok(String todayWeather) {
+        return new Reply(200, weatherJson(todayWeather), Duration.ZERO);
+    }
+
+    static Reply serverError() {
+        return new Reply(500, "{\"message\":\"stub error\"}", Duration.ZERO);
+    }
+
+    static Reply slow(Duration delay, String todayWeather) {
+        return new Reply(200, weatherJson(todayWeather), delay);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        Reply reply = replies.poll();
+        if (reply == null) {
+            reply = defaultReply;
+        }
+
+        try {
+            if (!reply.delay.isZero()) {
+                Thread.sleep(reply.delay.toMillis());
+            }
+            byte[] body = reply.body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(reply.status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // 클라이언트가 타임아웃으로 먼저 끊은 경우
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static String weatherJson(String todayWeather) {
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+        return "[{\"date\":\"01-01\",\"weather\":\"Snowy\"},{\"date\":\"" + today + "\",\"weather\":\"" + todayWeather + "\"}]";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    static class Reply {
+
+        private final int status;
+        private final String body;
+        private final Duration delay;
+
+        private Reply(int status, String body, Duration delay) {
+            this.status = status;
+            this.body = body;
+            this.delay = delay;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.expert.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoCount;
+import org.example.expert.domain.todo.repository.TodoCountRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({HibernateCacheConfig.class, PersistenceConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HibernateCacheConfigTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoCountRepository todoCountRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void 유저_조회는_두번째부터_2차_캐시에서_읽는다() {
+        // given
+        Long userId = userRepository.save(new User("cache@example.com", "pw", UserRole.USER)).getId();
+        entityManagerFactory.getCache().evictAll();
+
+        // when
+        userRepository.findById(userId);
+        userRepository.findById(userId);
+
+        // then
+        var region = statistics.getDomainDataRegionStatistics(HibernateCacheConfig.USER_REGION);
+        assertThat(region.getMissCount()).isEqualTo(1);
+        assertThat(region.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 권한_변경_커밋_후에는_캐시에서도_변경된_권한을_읽는다() {
+        // given
+        Long userId = userRepository.save(new User("role@example.com", "pw", UserRole.USER)).getId();
+        userRepository.findById(userId);
+
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findById(userId).orElseThrow().updateRole(UserRole.ADMIN));
+
+        // then
+        assertThat(userRepository.findById(userId).orElseThrow().getUserRole()).isEqualTo(UserRole.ADMIN);
+    }
+
+    @Test
+    void 일정_단건_프로젝션_조회는_쿼리_캐시를_사용하고_변경_시_무효화된다() {
+        // given
+        Long todoId = saveTodo("todo@example.com");
+
+        // when
+        todoRepository.findTodoResponseById(todoId);
+        todoRepository.findTodoResponseById(todoId);
+
+        // then
+        var region = statistics.getQueryRegionStatistics(HibernateCacheConfig.TODO_QUERY_REGION);
+        assertThat(region.getHitCount()).isEqualTo(1);
+
+        // todos 테이블이 바뀌면 캐시된 결과를 쓰지 않는다.
+        transactionTemplate.executeWithoutResult(status ->
+                todoRepository.findById(todoId).orElseThrow().enrichWeather("Sunny"));
+        todoRepository.findTodoResponseById(todoId);
+        assertThat(region.getHitCount()).isEqualTo(1);
+        assertThat(region.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 카운터_변경은_일정_캐시를_비우지_않고_버전_조회만_다시_읽는다() {
+        // given
+        Long todoId = saveTodo("count@example.com");
+        todoRepository.findById(todoId);
+        todoRepository.findTodoResponseById(todoId);
+        String before = todoRepository.findVersionById(todoId).orElseThrow().commentsEtag();
+        statistics.clear();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> todoCountRepository.addCommentCount(todoId, 1));
+
+        // then - todo 리전과 todos 만 읽는 캐시 쿼리는 그대로 적중한다
+        todoRepository.findById(todoId);
+        todoRepository.findTodoResponseById(todoId);
+        assertThat(statistics.getDomainDataRegionStatistics(HibernateCacheConfig.TODO_REGION).getHitCount()).isEqualTo(1);
+        assertThat(statistics.getQueryRegionStatistics(HibernateCacheConfig.TODO_QUERY_REGION).getHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        // ETag 용 버전은 todo_counts 를 읽으므로 새로 조회해 바뀐 값을 돌려준다
+        String after = todoRepository.findVersionById(todoId).orElseThrow().commentsEtag();
+        assertThat(after).isNotEqualTo(before);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private Long saveTodo(String email) {
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.save(new User(email, "pw", UserRole.USER));
+            Todo todo = todoRepository.save(new Todo("title", "contents", null, user));
+            todoCountRepository.save(new TodoCount(todo));
+            return todo.getId();
+        });
+    }
+}
@@ -0,0 +1,402 @@
+package org.example.expert.domain;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.dto.response.TodoExportRow;
+import org.example.expert.domain.todo.repository.QTodoRepositoryImpl;
+import org.example.expert.domain.todo.repository.TodoCountRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoSearchCountCache;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.search.repository.SearchIndexSourceRepository;
+import org.example.expert.search.service.TodoSearchIndexService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿼리 플랜 회귀 테스트 - 대량 시드(H2 MySQL 모드) 위에서 리포지토리 쿼리마다 EXPLAIN ANALYZE 를 실행해
+ * 허용되지 않은 테이블 풀스캔이 생기거나 문장당 스캔 행 수가 예산을 넘으면 실패한다.
+ * 쿼리를 추가/변경하면 아래 케이스 목록도 함께 갱신한다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        // 캐시 히트로 SQL 이 생략되지 않도록 2차/쿼리 캐시는 끈다
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, PersistenceConfig.class, QTodoRepositoryImpl.class, TodoSearchCountCache.class,
+        TodoSearchIndexService.class, SearchIndexSourceRepository.class, QueryPlanRegressionTest.RecorderConfig.class})
+class QueryPlanRegressionTest {
+
+    private static final int USERS = 2_000;
+    private static final int TODOS = 20_000;
+    private static final int COMMENTS_PER_TODO = 3;
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy", "Windy", "Foggy", "Stormy", "Hazy", "Drizzle", "Clear"};
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static final Pattern TABLE_SCAN = Pattern.compile("/\\* [\\w\"]+\\.\"?(\\w+)\"?\\.tableScan", Pattern.CASE_INSENSITIVE);
+    private static final Pattern LEADING_COMMENT = Pattern.compile("^\\s*(/\\*.*?\\*/\\s*)*", Pattern.DOTALL);
+    private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private StatementRecorder recorder;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoCountRepository todoCountRepository;
+
+    @Autowired
+    private QTodoRepositoryImpl qTodoRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SearchIndexSourceRepository searchIndexSourceRepository;
+
+    @Autowired
+    private TodoSearchIndexService searchIndexService;
+
+    @Test
+    void 리포지토리_쿼리는_인덱스를_타고_스캔_예산을_지킨다() throws SQLException {
+        seed();
+        searchIndexService.rebuild();
+
+        long todoId = TODOS / 2;
+        LocalDateTime start = BASE.plusHours(todoId);
+        LocalDateTime end = start.plusHours(48);
+        Cursor cursor = Cursor.next(BASE.plusHours(todoId), todoId);
+        // 시드의 댓글은 일정과 같은 시각에 id 순으로 들어가므로 가운데 댓글을 가리킨다
+        Cursor commentCursor = Cursor.next(BASE.plusHours(todoId), (todoId - 1) * COMMENTS_PER_TODO + 2);
+
+        List<PlanCase> cases = List.of(
+                // todos
+                new PlanCase("TodoRepository.findTodoResponseById", 10, () -> todoRepository.findTodoResponseById(todoId)),
+                new PlanCase("TodoRepository.findVersionById", 10, () -> todoRepository.findVersionById(todoId)),
+                // 조건 없는 목록은 데이터 쿼리만 예산 안에 들어야 한다 - count 는 인덱스 전체를 세므로 전체 행 수까지 허용
+                new PlanCase("TodoRepository.findTodoResponsesByParams()", TODOS + 1,
+                        () -> todoRepository.findTodoResponsesByParams(null, null, null, PageRequest.of(0, 10))),
+                new PlanCase("TodoRepository.findTodoResponsesByParams(range)", 200,
+                        () -> todoRepository.findTodoResponsesByParams(null, start, end, PageRequest.of(0, 10))),
+                new PlanCase("TodoRepository.findTodoResponsesByParams(weather, range)", 200,
+                        () -> todoRepository.findTodoResponsesByParams("Sunny", start, end, PageRequest.of(0, 10))),
+                // todo_counts
+                new PlanCase("TodoCountRepository.findIdsAfter", 600, () -> todoCountRepository.findIdsAfter(todoId, PageRequest.of(0, 500))),
+                new PlanCase("TodoCountRepository.addManagerCount", 10, () -> todoCountRepository.addManagerCount(todoId, 1)),
+                new PlanCase("TodoCountRepository.addCommentCount", 10, () -> todoCountRepository.addCommentCount(todoId, 1)),
+                new PlanCase("TodoCountRepository.recountBetween", 1_000, () -> todoCountRepository.recountBetween(todoId, todoId + 99)),
+                new PlanCase("QTodoRepository.searchTodos(range)", 200,
+                        () -> qTodoRepository.searchTodos(request(null, null, start, end), PageRequest.of(0, 10))),
+                // 색인 후보 + 미색인 구간(PK 범위) 보정 조회
+                new PlanCase("QTodoRepository.searchTodos(title)", 200,
+                        () -> qTodoRepository.searchTodos(request("title-1234", null, null, null), PageRequest.of(0, 10))),
+                new PlanCase("QTodoRepository.searchTodos(nickname, range)", 1_000,
+                        () -> qTodoRepository.searchTodos(request(null, "nick-77", start, end), PageRequest.of(0, 10))),
+                new PlanCase("QTodoRepository.searchTodosSlice(range)", 200,
+                        () -> qTodoRepository.searchTodosSlice(request(null, null, start, end), PageRequest.of(0, 10))),
+                new PlanCase("QTodoRepository.searchTodosTwoPhase(range)", 200,
+                        () -> qTodoRepository.searchTodosTwoPhase(request(null, null, start, end), PageRequest.of(0, 10))),
+                new PlanCase("QTodoRepository.findTodosByCursor", 100,
+                        () -> qTodoRepository.findTodosByCursor(null, null, null, cursor, 11)),
+                // H2 는 등치 선두 컬럼 뒤의 정렬을 인덱스 순서로 인정하지 않아 weather 구간(전체의 1/10)을 읽는다
+                new PlanCase("QTodoRepository.findTodosByCursor(weather)", 3 * TODOS / WEATHERS.length,
+                        () -> qTodoRepository.findTodosByCursor("Sunny", null, null, cursor, 11)),
+                new PlanCase("QTodoRepository.searchTodosByCursor", 100,
+                        () -> qTodoRepository.searchTodosByCursor(request(null, null, null, null), cursor, 11)),
+                new PlanCase("QTodoRepository.streamForExport(range)", 200, () -> {
+                    try (Stream<TodoExportRow> rows = qTodoRepository.streamForExport(null, start, end, 100)) {
+                        rows.forEach(row -> { });
+                    }
+                }),
+                // comments / managers / users
+                new PlanCase("CommentRepository.findResponsesByTodoId", 20, () -> commentRepository.findResponsesByTodoId(todoId)),
+                new PlanCase("CommentRepository.findResponsePage", 20,
+                        () -> commentRepository.findResponsePage(todoId, null, Limit.of(11))),
+                new PlanCase("CommentRepository.findResponsePage(next)", 20,
+                        () -> commentRepository.findResponsePage(todoId, commentCursor, Limit.of(11))),
+                new PlanCase("CommentRepository.findResponsePage(prev)", 20,
+                        () -> commentRepository.findResponsePage(todoId, Cursor.prev(commentCursor.getAt(), commentCursor.getId()), Limit.of(11))),
+                new PlanCase("ManagerRepository.findByTodoIdWithUser", 20, () -> managerRepository.findByTodoIdWithUser(todoId)),
+                new PlanCase("UserRepository.findByEmail", 10, () -> userRepository.findByEmail("user77@example.com")),
+                new PlanCase("UserRepository.existsByEmail", 10, () -> userRepository.existsByEmail("user77@example.com")),
+                new PlanCase("UserRepository.findExistingEmails", 20, () -> userRepository.findExistingEmails(
+                        List.of("user77@example.com", "user78@example.com", "nobody@example.com"))),
+                new PlanCase("SearchIndexSourceRepository.forEachUserNickname", 600,
+                        () -> searchIndexSourceRepository.forEachUserNickname(500, (id, nickname) -> { }))
+        );
+
+        List<String> violations = new ArrayList<>();
+        for (PlanCase planCase : cases) {
+            List<RecordedStatement> statements = recorder.record(planCase.action);
+            assertThat(statements).as(planCase.name + " 는 SQL 을 실행해야 한다").isNotEmpty();
+
+            for (RecordedStatement statement : statements) {
+                String plan = explain(statement);
+                check(planCase, plan, violations);
+            }
+        }
+
+        assertThat(violations).as("쿼리 플랜 회귀").isEmpty();
+    }
+
+    private void check(PlanCase planCase, String plan, List<String> violations) {
+        Matcher scan = TABLE_SCAN.matcher(plan);
+        while (scan.find()) {
+            String table = scan.group(1).toLowerCase(Locale.ROOT);
+            if (!planCase.allowedScans.contains(table)) {
+                violations.add(planCase.name + ": " + table + " 풀스캔\n  " + plan);
+            }
+        }
+
+        long scanned = 0;
+        Matcher count = SCAN_COUNT.matcher(plan);
+        while (count.find()) {
+            scanned += Long.parseLong(count.group(1));
+        }
+        if (scanned > planCase.maxScannedRows) {
+            violations.add(planCase.name + ": 스캔 " + scanned + "행 > 예산 " + planCase.maxScannedRows + "행\n  " + plan);
+        }
+    }
+
+    /**
+     * SELECT 는 실제 실행해 scanCount 를 얻고(EXPLAIN ANALYZE), 그 외 DML 은 플랜만 확인한다.
+     * 시드가 커밋되지 않은 테스트 트랜잭션 안에 있으므로 같은 커넥션에서 실행한다.
+     */
+    private String explain(RecordedStatement statement) throws SQLException {
+        boolean select = LEADING_COMMENT.matcher(statement.sql).replaceFirst("").toLowerCase(Locale.ROOT).startsWith("select");
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement ps = connection.prepareStatement((select ? "EXPLAIN ANALYZE " : "EXPLAIN ") + statement.sql)) {
+            statement.bind(ps);
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    plan.append(rs.getString(1).replaceAll("\\s+", " "));
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    private TodoSearchRequest request(String title, String nickname, LocalDateTime startDate, LocalDateTime endDate) {
+        TodoSearchRequest request = new TodoSearchRequest();
+        ReflectionTestUtils.setField(request, "title", title);
+        ReflectionTestUtils.setField(request, "nickname", nickname);
+        ReflectionTestUtils.setField(request, "startDate", startDate);
+        ReflectionTestUtils.setField(request, "endDate", endDate);
+        return request;
+    }
+
+    private void seed() {
+        Timestamp base = Timestamp.valueOf(BASE);
+
+        List<Object[]> users = new ArrayList<>();
+        for (long id = 1; id <= USERS; id++) {
+            users.add(new Object[]{id, "user" + id + "@example.com", "pw", "USER", "nick-" + id, base, base});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, email, password, user_role, nickname, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?)", users);
+
+        List<Object[]> todos = new ArrayList<>();
+        List<Object[]> counts = new ArrayList<>();
+        List<Object[]> managers = new ArrayList<>();
+        List<Object[]> comments = new ArrayList<>();
+        long managerId = 1;
+        long commentId = 1;
+        for (long id = 1; id <= TODOS; id++) {
+            long owner = (id % USERS) + 1;
+            long other = ((id + 7) % USERS) + 1;
+            Timestamp at = Timestamp.valueOf(BASE.plusHours(id));
+
+            todos.add(new Object[]{id, "title-" + id, "contents", WEATHERS[(int) (id % WEATHERS.length)], owner, at, at});
+            counts.add(new Object[]{id, 2L, (long) COMMENTS_PER_TODO});
+            managers.add(new Object[]{managerId++, owner, id});
+            managers.add(new Object[]{managerId++, other, id});
+            for (int c = 0; c < COMMENTS_PER_TODO; c++) {
+                comments.add(new Object[]{commentId++, "comment", owner, id, at, at});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?)", todos);
+        jdbcTemplate.batchUpdate("INSERT INTO todo_counts (todo_id, manager_count, comment_count, manager_version, comment_version) VALUES (?, ?, ?, 0, 0)", counts);
+        jdbcTemplate.batchUpdate("INSERT INTO managers (id, user_id, todo_id) VALUES (?, ?, ?)", managers);
+        jdbcTemplate.batchUpdate("INSERT INTO comments (id, contents, user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)", comments);
+        // 옵티마이저가 실제 분포 기준으로 플랜을 고르도록 통계 갱신
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private static class PlanCase {
+        private final String name;
+        private final long maxScannedRows;
+        private final Set<String> allowedScans;
+        private final Runnable action;
+
+        PlanCase(String name, long maxScannedRows, Runnable action) {
+            this(name, maxScannedRows, Set.of(), action);
+        }
+
+        PlanCase(String name, long maxScannedRows, Set<String> allowedScans, Runnable action) {
+            this.name = name;
+            this.maxScannedRows = maxScannedRows;
+            this.allowedScans = allowedScans;
+            this.action = action;
+        }
+    }
+
+    @TestConfiguration
+    static class RecorderConfig {
+
+        @Bean
+        StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? StatementRecorder.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * DataSource 를 감싸 record() 구간에서 실행된 PreparedStatement 의 SQL 과 바인딩 호출을 그대로 기록한다.
+     */
+    static class StatementRecorder {
+
+        private static final List<RecordedStatement> statements = new ArrayList<>();
+        private static boolean recording;
+
+        List<RecordedStatement> record(Runnable action) {
+            statements.clear();
+            recording = true;
+            try {
+                action.run();
+            } finally {
+                recording = false;
+            }
+            return new ArrayList<>(statements);
+        }
+
+        static DataSource wrap(DataSource target) {
+            return proxy(DataSource.class, target, (method, args) -> {
+                Object result = invoke(target, method, args);
+                return result instanceof Connection connection ? wrapConnection(connection) : result;
+            });
+        }
+
+        private static Connection wrapConnection(Connection target) {
+            return proxy(Connection.class, target, (method, args) -> {
+                Object result = invoke(target, method, args);
+                if (result instanceof PreparedStatement ps && method.getName().equals("prepareStatement")) {
+                    return wrapStatement(ps, (String) args[0]);
+                }
+                return result;
+            });
+        }
+
+        private static PreparedStatement wrapStatement(PreparedStatement target, String sql) {
+            RecordedStatement recorded = new RecordedStatement(sql);
+            return proxy(PreparedStatement.class, target, (method, args) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                    recorded.bindings.add(new Object[]{method, args});
+                } else if (recording && name.startsWith("execute")) {
+                    statements.add(recorded);
+                }
+                return invoke(target, method, args);
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, Object target, Handler handler) {
+            InvocationHandler invocationHandler = (proxy, method, args) -> handler.handle(method, args);
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+
+        private interface Handler {
+            Object handle(Method method, Object[] args) throws Throwable;
+        }
+    }
+
+    static class RecordedStatement {
+        private final String sql;
+        private final List<Object[]> bindings = new ArrayList<>();
+
+        RecordedStatement(String sql) {
+            this.sql = sql;
+        }
+
+        void bind(PreparedStatement ps) throws SQLException {
+            for (Object[] binding : bindings) {
+                try {
+                    ((Method) binding[0]).invoke(ps, (Object[]) binding[1]);
+                } catch (ReflectiveOperationException e) {
+                    throw new SQLException(e);
+                }
+            }
+        }
+    }
+}
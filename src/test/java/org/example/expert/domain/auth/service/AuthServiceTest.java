@@ -0,0 +1,151 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.security.JwtUtil;
+import org.example.expert.security.PasswordHasher;
+import org.example.expert.security.TokenRevocationStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:auth-service;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PersistenceConfig.class, AuthService.class, AuthServiceTest.HasherConfig.class})
+// 로그인 안에서 열고 커밋하는 트랜잭션을 검증하므로 테스트 트랜잭션을 쓰지 않는다
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AuthServiceTest {
+
+    private static final String EMAIL = "user1@example.com";
+    private static final String PASSWORD = "Password1";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private RecordingPasswordHasher passwordHasher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private TokenRevocationStore tokenRevocationStore;
+
+    @BeforeEach
+    void setUp() {
+        passwordHasher.transactionActive.clear();
+        passwordHasher.duringVerify = null;
+        jdbcTemplate.update("DELETE FROM users");
+        // 설정(cost 5)보다 낮은 cost 4 해시 - 로그인하면 재해시 대상
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role, nickname, created_at, modified_at) "
+                + "VALUES (1, ?, ?, 'USER', 'nick-1', NOW(), NOW())", EMAIL, new BCryptPasswordEncoder(4).encode(PASSWORD));
+    }
+
+    @Test
+    void 비밀번호_검증은_트랜잭션_밖에서_실행하고_재해시는_따로_저장한다() {
+        authService.signin(signinRequest());
+
+        assertThat(passwordHasher.transactionActive).containsExactly(false);
+        assertThat(storedPassword()).startsWith("$2a$05$");
+    }
+
+    @Test
+    void 검증_중에_비밀번호가_바뀌면_재해시로_덮어쓰지_않는다() {
+        String changed = new BCryptPasswordEncoder(5).encode("Changed1");
+        passwordHasher.duringVerify = () -> jdbcTemplate.update("UPDATE users SET password = ? WHERE id = 1", changed);
+
+        authService.signin(signinRequest());
+
+        assertThat(storedPassword()).isEqualTo(changed);
+    }
+
+    @Test
+    void 가입_시_비밀번호_해시는_트랜잭션_밖에서_만들고_저장은_커밋한다() {
+        SignupRequest request = new SignupRequest();
+        ReflectionTestUtils.setField(request, "email", "user2@example.com");
+        ReflectionTestUtils.setField(request, "password", PASSWORD);
+        ReflectionTestUtils.setField(request, "userRole", "USER");
+
+        authService.signup(request);
+
+        assertThat(passwordHasher.transactionActive).containsExactly(false);
+        String stored = jdbcTemplate.queryForObject("SELECT password FROM users WHERE email = ?", String.class, "user2@example.com");
+        assertThat(new BCryptPasswordEncoder().matches(PASSWORD, stored)).isTrue();
+    }
+
+    private String storedPassword() {
+        return jdbcTemplate.queryForObject("SELECT password FROM users WHERE id = 1", String.class);
+    }
+
+    private SigninRequest signinRequest() {
+        SigninRequest request = new SigninRequest();
+        ReflectionTestUtils.setField(request, "email", EMAIL);
+        ReflectionTestUtils.setField(request, "password", PASSWORD);
+        return request;
+    }
+
+    @TestConfiguration
+    static class HasherConfig {
+
+        @Bean
+        RecordingPasswordHasher passwordHasher() {
+            return new RecordingPasswordHasher();
+        }
+    }
+
+    /**
+     * 검증/해시 시점에 호출 스레드에서 트랜잭션이 열려 있었는지 기록한다.
+     */
+    static class RecordingPasswordHasher extends PasswordHasher {
+
+        private final List<Boolean> transactionActive = new ArrayList<>();
+        private Runnable duringVerify;
+
+        RecordingPasswordHasher() {
+            super(new BCryptPasswordEncoder(5), 1, 4, Duration.ofSeconds(5));
+        }
+
+        @Override
+        public Verification verify(String rawPassword, String encodedPassword) {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            if (duringVerify != null) {
+                duringVerify.run();
+            }
+            return super.verify(rawPassword, encodedPassword);
+        }
+
+        @Override
+        public String encode(String rawPassword) {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return super.encode(rawPassword);
+        }
+    }
+}
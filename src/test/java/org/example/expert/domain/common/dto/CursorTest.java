@@ -0,0 +1,101 @@
+package org.example.expert.domain.common.dto;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2024, 1, 1, 12, 30, 15, 123_000_000);
+
+    @Test
+    void 인코딩한_커서를_디코딩하면_방향_시각_id가_그대로_복원된다() {
+        // given
+        Cursor next = Cursor.next(AT, 42L);
+        Cursor prev = Cursor.prev(AT, 7L);
+
+        // when
+        Cursor decodedNext = Cursor.decode(next.encode());
+        Cursor decodedPrev = Cursor.decode(prev.encode());
+
+        // then
+        assertThat(decodedNext.isPrev()).isFalse();
+        assertThat(decodedNext.getAt()).isEqualTo(AT);
+        assertThat(decodedNext.getId()).isEqualTo(42L);
+        assertThat(decodedPrev.isPrev()).isTrue();
+        assertThat(decodedPrev.getAt()).isEqualTo(AT);
+        assertThat(decodedPrev.getId()).isEqualTo(7L);
+    }
+
+    @Test
+    void 빈_커서는_첫_페이지로_본다() {
+        assertThat(Cursor.decode(null)).isNull();
+        assertThat(Cursor.decode(" ")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "not base64!",
+            "X|2024-01-01T00:00|1",
+            "N|2024-01-01T00:00",
+            "N|2024-01-01T00:00|1|2",
+            "N|2024-13-01T00:00|1",
+            "N|2024-01-01T00:00|abc",
+            "N||1"
+    })
+    void 형식이_맞지_않거나_변조된_커서는_거부한다(String raw) {
+        String value = raw.equals("not base64!") ? raw : encode(raw);
+
+        assertThatThrownBy(() -> Cursor.decode(value))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+    }
+
+    @Test
+    void 시각이_같은_행은_id로_구분한_커서를_만든다() {
+        // given - 최신순(시각 desc, id desc)으로 size + 1 건 조회된 결과
+        List<Row> fetched = List.of(new Row(AT, 5L), new Row(AT, 4L), new Row(AT, 3L));
+
+        // when
+        CursorResponse<Row> first = CursorResponse.of(fetched, 2, null, Row::at, Row::id);
+
+        // then
+        assertThat(first.getContent()).extracting(Row::id).containsExactly(5L, 4L);
+        assertThat(first.isHasPrev()).isFalse();
+        Cursor next = Cursor.decode(first.getNextCursor());
+        assertThat(next.isPrev()).isFalse();
+        assertThat(next.getAt()).isEqualTo(AT);
+        assertThat(next.getId()).isEqualTo(4L);
+    }
+
+    @Test
+    void 이전_페이지는_역순으로_조회한_결과를_최신순으로_뒤집는다() {
+        // given - PREV 커서는 (시각 asc, id asc) 로 조회된다
+        Cursor cursor = Cursor.prev(AT, 3L);
+        List<Row> fetched = List.of(new Row(AT, 4L), new Row(AT, 5L));
+
+        // when
+        CursorResponse<Row> page = CursorResponse.of(fetched, 2, cursor, Row::at, Row::id);
+
+        // then - 더 읽을 이전 데이터가 없으므로 prevCursor 는 없고, 방금 떠난 방향으로는 항상 돌아갈 수 있다
+        assertThat(page.getContent()).extracting(Row::id).containsExactly(5L, 4L);
+        assertThat(page.isHasPrev()).isFalse();
+        assertThat(Cursor.decode(page.getNextCursor()).getId()).isEqualTo(4L);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record Row(LocalDateTime at, Long id) {
+    }
+}
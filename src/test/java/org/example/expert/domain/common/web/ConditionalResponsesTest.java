@@ -0,0 +1,57 @@
+package org.example.expert.domain.common.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionalResponsesTest {
+
+    private static final String ETAG = "\"todo-1-5\"";
+
+    @Test
+    void If_None_Match_가_같으면_본문을_만들지_않고_304() {
+        AtomicInteger loads = new AtomicInteger();
+
+        ResponseEntity<String> response = ConditionalResponses.ofEtag(request(ETAG), ETAG, () -> {
+            loads.incrementAndGet();
+            return "body";
+        });
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(ETAG);
+        assertThat(response.getBody()).isNull();
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void ETag_가_다르면_본문과_새_ETag_를_반환() {
+        ResponseEntity<String> response = ConditionalResponses.ofEtag(request("\"todo-1-4\""), ETAG, () -> "body");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo(ETAG);
+        assertThat(response.getBody()).isEqualTo("body");
+    }
+
+    @Test
+    void ETag_가_없으면_조건부_처리_없이_본문을_반환() {
+        ResponseEntity<String> response = ConditionalResponses.ofEtag(request(ETAG), null, () -> "body");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNull();
+        assertThat(response.getBody()).isEqualTo("body");
+    }
+
+    private ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.search.repository.SearchIndexSourceRepository;
+import org.example.expert.search.service.TodoSearchIndexService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:q-todo-repository;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, PersistenceConfig.class, QTodoRepositoryImpl.class, TodoSearchCountCache.class,
+        TodoSearchIndexService.class, SearchIndexSourceRepository.class})
+class QTodoRepositoryImplTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private QTodoRepositoryImpl qTodoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 수정일이_같은_일정도_커서로_빠짐없이_중복없이_넘긴다() {
+        // given - 5건 모두 같은 수정일
+        insertUser(1L);
+        for (long id = 1; id <= 5; id++) {
+            insertTodo(id, "title-" + id, 1L, AT);
+        }
+
+        // when - 앞으로 2건씩
+        CursorResponse<TodoResponse> first = page(null, 2);
+        CursorResponse<TodoResponse> second = page(first.getNextCursor(), 2);
+        CursorResponse<TodoResponse> third = page(second.getNextCursor(), 2);
+
+        // then
+        assertThat(first.getContent()).extracting(TodoResponse::getId).containsExactly(5L, 4L);
+        assertThat(second.getContent()).extracting(TodoResponse::getId).containsExactly(3L, 2L);
+        assertThat(third.getContent()).extracting(TodoResponse::getId).containsExactly(1L);
+        assertThat(third.isHasNext()).isFalse();
+
+        // 뒤로 돌아가도 같은 페이지가 나온다
+        CursorResponse<TodoResponse> back = page(third.getPrevCursor(), 2);
+        assertThat(back.getContent()).extracting(TodoResponse::getId).containsExactly(3L, 2L);
+        assertThat(page(back.getPrevCursor(), 2).getContent()).extracting(TodoResponse::getId).containsExactly(5L, 4L);
+    }
+
+    @Test
+    void 단일_쿼리와_2단계_검색은_생성일이_같을_때도_같은_순서와_개수를_돌려준다() {
+        // given - 생성일이 같은 일정 4건, 일정 n 에 담당자 1명과 댓글 n 개, 카운터도 같은 값
+        insertUser(1L);
+        long commentId = 1;
+        for (long id = 1; id <= 4; id++) {
+            insertTodo(id, "title-" + id, 1L, AT);
+            jdbcTemplate.update("INSERT INTO managers (id, user_id, todo_id) VALUES (?, 1, ?)", id, id);
+            for (long c = 0; c < id; c++) {
+                jdbcTemplate.update("INSERT INTO comments (id, contents, user_id, todo_id, created_at, modified_at) "
+                        + "VALUES (?, 'comment', 1, ?, NOW(), NOW())", commentId++, id);
+            }
+        }
+        jdbcTemplate.update("UPDATE todo_counts SET manager_count = 1, comment_count = todo_id");
+        TodoSearchRequest request = new TodoSearchRequest();
+
+        // when
+        Page<TodoSearchResponse> single = qTodoRepository.searchTodos(request, PageRequest.of(1, 2));
+        Page<TodoSearchResponse> twoPhase = qTodoRepository.searchTodosTwoPhase(request, PageRequest.of(1, 2));
+
+        // then
+        assertThat(single.getContent()).extracting(TodoSearchResponse::getId).containsExactly(2L, 1L);
+        assertThat(twoPhase.getContent())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(single.getContent());
+
+        // 2단계 검색은 카운터가 아니라 자식 테이블을 집계하므로 카운터가 어긋나도 실제 개수를 돌려준다
+        jdbcTemplate.update("UPDATE todo_counts SET manager_count = 0, comment_count = 0");
+        Page<TodoSearchResponse> drifted = qTodoRepository.searchTodosTwoPhase(request, PageRequest.of(1, 2));
+        assertThat(drifted.getContent()).extracting(TodoSearchResponse::getManagerCount).containsExactly(1L, 1L);
+        assertThat(drifted.getContent()).extracting(TodoSearchResponse::getCommentCount).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void Slice_검색은_한_건을_더_읽어_다음_페이지_여부만_판단한다() {
+        // given
+        insertUser(1L);
+        for (long id = 1; id <= 3; id++) {
+            insertTodo(id, "title-" + id, 1L, AT.plusMinutes(id));
+        }
+        TodoSearchRequest request = new TodoSearchRequest();
+
+        // when
+        Slice<TodoSearchResponse> first = qTodoRepository.searchTodosSlice(request, PageRequest.of(0, 2));
+        Slice<TodoSearchResponse> last = qTodoRepository.searchTodosSlice(request, PageRequest.of(1, 2));
+        Slice<TodoSearchResponse> exact = qTodoRepository.searchTodosSlice(request, PageRequest.of(0, 3));
+
+        // then
+        assertThat(first.getContent()).extracting(TodoSearchResponse::getId).containsExactly(3L, 2L);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).extracting(TodoSearchResponse::getId).containsExactly(1L);
+        assertThat(last.hasNext()).isFalse();
+        assertThat(exact.getContent()).hasSize(3);
+        assertThat(exact.hasNext()).isFalse();
+    }
+
+    private CursorResponse<TodoResponse> page(String cursorValue, int size) {
+        Cursor cursor = Cursor.decode(cursorValue);
+        return CursorResponse.of(
+                qTodoRepository.findTodosByCursor(null, null, null, cursor, size + 1),
+                size,
+                cursor,
+                TodoResponse::getModifiedAt,
+                TodoResponse::getId
+        );
+    }
+
+    private void insertUser(long id) {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role, nickname, created_at, modified_at) "
+                + "VALUES (?, ?, 'pw', 'USER', ?, NOW(), NOW())", id, "user" + id + "@example.com", "nick-" + id);
+    }
+
+    private void insertTodo(long id, String title, long userId, LocalDateTime at) {
+        Timestamp timestamp = Timestamp.valueOf(at);
+        jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) "
+                + "VALUES (?, ?, 'contents', 'Sunny', ?, ?, ?)", id, title, userId, timestamp, timestamp);
+        jdbcTemplate.update("INSERT INTO todo_counts (todo_id, manager_count, comment_count, manager_version, comment_version) "
+                + "VALUES (?, 0, 0, 0, 0)", id);
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.todo.dto.response.TodoRecountResponse;
+import org.example.expert.domain.todo.service.TodoCountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:todo-count;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PersistenceConfig.class, TodoCountService.class})
+// 여러 트랜잭션이 각각 커밋한 결과를 검증하므로 테스트 트랜잭션을 쓰지 않는다
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoCountRepositoryTest {
+
+    private static final long TODO_ID = 1L;
+
+    @Autowired
+    private TodoCountRepository todoCountRepository;
+
+    @Autowired
+    private TodoCountService todoCountService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM comments");
+        jdbcTemplate.update("DELETE FROM managers");
+        jdbcTemplate.update("DELETE FROM todo_counts");
+        jdbcTemplate.update("DELETE FROM todos");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role, nickname, created_at, modified_at) "
+                + "VALUES (1, 'user1@example.com', 'pw', 'USER', 'nick-1', NOW(), NOW())");
+        jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) "
+                + "VALUES (?, 'title', 'contents', 'Sunny', 1, NOW(), NOW())", TODO_ID);
+        jdbcTemplate.update("INSERT INTO todo_counts (todo_id, manager_count, comment_count, manager_version, comment_version) "
+                + "VALUES (?, 0, 0, 0, 0)", TODO_ID);
+    }
+
+    @Test
+    void 동시에_증가시켜도_유실되는_증가가_없다() throws Exception {
+        // given
+        int threads = 8;
+        int perThread = 25;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when - 스레드마다 건별 트랜잭션으로 담당자/댓글 카운터를 함께 올린다
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        todoCountRepository.addManagerCount(TODO_ID, 1);
+                        todoCountRepository.addCommentCount(TODO_ID, 1);
+                    });
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        long expected = (long) threads * perThread;
+        Map<String, Object> row = counts();
+        assertThat(row.get("manager_count")).isEqualTo(expected);
+        assertThat(row.get("comment_count")).isEqualTo(expected);
+        assertThat(row.get("manager_version")).isEqualTo(expected);
+        assertThat(row.get("comment_version")).isEqualTo(expected);
+    }
+
+    @Test
+    void 재계산은_청크를_나눠_실제_자식_행_수로_카운터를_맞춘다() {
+        // given - 일정 3건, 카운터는 실제와 다르게 틀어져 있다
+        for (long id = 2; id <= 3; id++) {
+            jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) "
+                    + "VALUES (?, 'title', 'contents', 'Sunny', 1, NOW(), NOW())", id);
+            jdbcTemplate.update("INSERT INTO todo_counts (todo_id, manager_count, comment_count, manager_version, comment_version) "
+                    + "VALUES (?, 9, 9, 0, 0)", id);
+        }
+        jdbcTemplate.update("INSERT INTO managers (id, user_id, todo_id) VALUES (1, 1, 1), (2, 1, 2), (3, 1, 2)");
+        jdbcTemplate.update("INSERT INTO comments (id, contents, user_id, todo_id, created_at, modified_at) "
+                + "VALUES (1, 'c', 1, 2, NOW(), NOW()), (2, 'c', 1, 3, NOW(), NOW()), (3, 'c', 1, 3, NOW(), NOW()), (4, 'c', 1, 3, NOW(), NOW())");
+
+        // when
+        TodoRecountResponse response = todoCountService.recountAll(2);
+
+        // then
+        assertThat(response.getChunks()).isEqualTo(2);
+        assertThat(response.getUpdatedTodos()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForList("SELECT manager_count, comment_count FROM todo_counts ORDER BY todo_id"))
+                .extracting(row -> List.of(row.get("manager_count"), row.get("comment_count")))
+                .containsExactly(List.of(1L, 0L), List.of(2L, 1L), List.of(0L, 3L));
+    }
+
+    @Test
+    void 카운터가_0_아래로_내려가는_감소는_0에서_멈추고_버전은_올린다() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            todoCountRepository.addManagerCount(TODO_ID, -1);
+            todoCountRepository.addCommentCount(TODO_ID, -1);
+        });
+
+        // then
+        Map<String, Object> row = counts();
+        assertThat(row.get("manager_count")).isEqualTo(0L);
+        assertThat(row.get("comment_count")).isEqualTo(0L);
+        assertThat(row.get("manager_version")).isEqualTo(1L);
+        assertThat(row.get("comment_version")).isEqualTo(1L);
+    }
+
+    private Map<String, Object> counts() {
+        return jdbcTemplate.queryForMap("SELECT manager_count, comment_count, manager_version, comment_version "
+                + "FROM todo_counts WHERE todo_id = ?", TODO_ID);
+    }
+}
@@ -0,0 +1,179 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.HibernateCacheConfig;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일정 조회 - 엔티티 경로(엔티티 조회 + 매핑) vs 생성자 프로젝션 경로 비교
+ * 운영 코드에서 엔티티 조회 메서드는 지웠으므로 비교 기준이 되는 엔티티 조회는 이 테스트 안에서 직접 실행한다.
+ * ./gradlew benchmark 로 실행 (기본 test 태스크에서는 제외)
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:read-bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PersistenceConfig.class, HibernateCacheConfig.class})
+class TodoReadPathBenchmarkTest {
+
+    private static final int TODOS = Integer.getInteger("benchmark.todos", 20_000);
+    private static final int PAGE_SIZE = 50;
+    private static final int WARMUP = 200;
+    private static final int ROUNDS = 1_000;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Test
+    void 엔티티_경로와_프로젝션_경로를_비교한다() {
+        seed();
+        Pageable pageable = PageRequest.of(10, PAGE_SIZE);
+
+        // 프로젝션 경로는 영속성 컨텍스트에 엔티티를 남기지 않는다.
+        entityManager.clear();
+        List<TodoResponse> projected = todoRepository.findTodoResponsesByParams(null, null, null, pageable).getContent();
+        assertThat(managedEntities()).isZero();
+
+        List<TodoResponse> mapped = listByEntity(pageable);
+        assertThat(managedEntities()).isGreaterThan(0);
+        assertThat(projected).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(mapped);
+
+        Result entityList = measure(() -> listByEntity(pageable));
+        Result projectionList = measure(() -> todoRepository.findTodoResponsesByParams(null, null, null, pageable));
+        Result entityOne = measure(() -> getByEntity(TODOS / 2L));
+        Result projectionOne = measure(() -> todoRepository.findTodoResponseById(TODOS / 2L));
+
+        System.out.printf("[read path benchmark] todos=%d page=%d%n", TODOS, PAGE_SIZE);
+        System.out.printf("  getTodos  entity     %.3fms %,d B/op%n", entityList.millis, entityList.bytes);
+        System.out.printf("  getTodos  projection %.3fms %,d B/op%n", projectionList.millis, projectionList.bytes);
+        System.out.printf("  getTodo   entity     %.3fms %,d B/op%n", entityOne.millis, entityOne.bytes);
+        System.out.printf("  getTodo   projection %.3fms %,d B/op%n", projectionOne.millis, projectionOne.bytes);
+    }
+
+    // 기존 TodoService 의 엔티티 조회 + 매핑 경로 - 프로젝션과 같은 조건/정렬에 count 쿼리까지 실행한다
+    private List<TodoResponse> listByEntity(Pageable pageable) {
+        List<Todo> todos = entityManager.createQuery("""
+                SELECT t FROM Todo t JOIN FETCH t.user
+                WHERE t.modifiedAt BETWEEN :start AND :end
+                ORDER BY t.modifiedAt DESC, t.id DESC
+                """, Todo.class)
+                .setParameter("start", TodoRepository.MIN_MODIFIED_AT)
+                .setParameter("end", TodoRepository.MAX_MODIFIED_AT)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        Long total = entityManager.createQuery("SELECT COUNT(t) FROM Todo t WHERE t.modifiedAt BETWEEN :start AND :end", Long.class)
+                .setParameter("start", TodoRepository.MIN_MODIFIED_AT)
+                .setParameter("end", TodoRepository.MAX_MODIFIED_AT)
+                .getSingleResult();
+        return new PageImpl<>(todos, pageable, total).map(this::toResponse).getContent();
+    }
+
+    // 2차 캐시를 거치는 엔티티 단건 조회 후 작성자 프록시 초기화
+    private TodoResponse getByEntity(long todoId) {
+        return toResponse(entityManager.find(Todo.class, todoId));
+    }
+
+    private TodoResponse toResponse(Todo todo) {
+        return new TodoResponse(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getContents(),
+                todo.getWeather(),
+                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                todo.getCreatedAt(),
+                todo.getModifiedAt()
+        );
+    }
+
+    /**
+     * 요청마다 새 영속성 컨텍스트를 쓰는 상황을 흉내내기 위해 호출마다 clear
+     */
+    private Result measure(Runnable call) {
+        for (int i = 0; i < WARMUP; i++) {
+            call.run();
+            entityManager.clear();
+        }
+
+        long threadId = Thread.currentThread().threadId();
+        long bytesBefore = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            call.run();
+            entityManager.clear();
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        return new Result(elapsed / 1_000_000.0 / ROUNDS, bytes / ROUNDS);
+    }
+
+    private int managedEntities() {
+        return entityManager.unwrap(SessionImplementor.class).getPersistenceContextInternal().getNumberOfManagedEntities();
+    }
+
+    private void seed() {
+        Timestamp base = Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0));
+
+        List<Object[]> users = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            users.add(new Object[]{id, "user" + id + "@example.com", "pw", "USER", "nick-" + id, base, base});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, email, password, user_role, nickname, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?)", users);
+
+        List<Object[]> todos = new ArrayList<>();
+        List<Object[]> counts = new ArrayList<>();
+        for (long id = 1; id <= TODOS; id++) {
+            Timestamp at = new Timestamp(base.getTime() + id * 60_000L);
+            todos.add(new Object[]{id, "title-" + id, "contents-" + id, "Sunny", (id % 100) + 1, at, at});
+            counts.add(new Object[]{id, 1L, 0L});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?)", todos);
+        jdbcTemplate.batchUpdate("INSERT INTO todo_counts (todo_id, manager_count, comment_count, manager_version, comment_version) VALUES (?, ?, ?, 0, 0)", counts);
+    }
+
+    private static class Result {
+        private final double millis;
+        private final long bytes;
+
+        private Result(double millis, long bytes) {
+            this.millis = millis;
+            this.bytes = bytes;
+        }
+    }
+}
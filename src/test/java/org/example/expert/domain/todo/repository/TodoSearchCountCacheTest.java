@@ -0,0 +1,73 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoSearchCountCacheTest {
+
+    private final TodoSearchCountCache cache = new TodoSearchCountCache(Duration.ofSeconds(30), 100);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void 같은_검색_조건은_count_쿼리를_다시_실행하지_않는다() {
+        // when - 대소문자와 빈 값 차이는 같은 조건으로 본다
+        long first = cache.get(request("Report", null, null), this::load);
+        long second = cache.get(request("report", " ", null), this::load);
+
+        // then
+        assertThat(first).isEqualTo(42L);
+        assertThat(second).isEqualTo(42L);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void 검색_조건이_다르면_따로_센다() {
+        // when
+        cache.get(request("report", null, null), this::load);
+        cache.get(request("report", "nick", null), this::load);
+        cache.get(request("report", null, LocalDateTime.of(2024, 1, 1, 0, 0)), this::load);
+
+        // then
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void 일정_저장이_커밋되면_캐시를_비운다() {
+        // given
+        TodoSearchRequest request = request("report", null, null);
+        cache.get(request, this::load);
+
+        // when
+        cache.onTodoSaved(new TodoSavedEvent(1L, "report", 1L));
+        cache.get(request, this::load);
+
+        // then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void count_결과가_null이면_0으로_본다() {
+        assertThat(cache.get(request(null, null, null), () -> null)).isZero();
+    }
+
+    private Long load() {
+        loads.incrementAndGet();
+        return 42L;
+    }
+
+    private TodoSearchRequest request(String title, String nickname, LocalDateTime startDate) {
+        TodoSearchRequest request = new TodoSearchRequest();
+        ReflectionTestUtils.setField(request, "title", title);
+        ReflectionTestUtils.setField(request, "nickname", nickname);
+        ReflectionTestUtils.setField(request, "startDate", startDate);
+        return request;
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.config.HibernateCacheConfig;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.search.repository.SearchIndexSourceRepository;
+import org.example.expert.search.service.TodoSearchIndexService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SINGLE_QUERY vs TWO_PHASE 검색 비교 - ./gradlew benchmark 로 실행 (기본 test 태스크에서는 제외)
+ * 비정규화 카운터(todo_counts) 조인 1회와, 페이지 id 로 managers/comments 를 GROUP BY 집계하는 2단계를 비교한다.
+ * 시드의 카운터는 자식 테이블 행 수와 같으므로 두 전략의 결과가 같아야 한다.
+ * 데이터 규모는 -Dbenchmark.todos=N 으로 조절
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:search-bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, PersistenceConfig.class, HibernateCacheConfig.class, QTodoRepositoryImpl.class, TodoSearchCountCache.class,
+        TodoSearchIndexService.class, SearchIndexSourceRepository.class})
+class TodoSearchStrategyBenchmarkTest {
+
+    private static final int TODOS = Integer.getInteger("benchmark.todos", 20_000);
+    private static final int USERS = 200;
+    private static final int COMMENTS_PER_TODO = 5;
+    private static final int WARMUP = 5;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private QTodoRepositoryImpl qTodoRepository;
+
+    @Autowired
+    private TodoSearchIndexService searchIndexService;
+
+    @Test
+    void 단일_쿼리와_2단계_검색을_비교한다() {
+        seed();
+        searchIndexService.rebuild();
+
+        List<TodoSearchRequest> requests = List.of(
+                request(null, null),
+                request("title-1", null),
+                request(null, "nick-7"),
+                request("no-such-title", null)
+        );
+        List<Pageable> pages = List.of(PageRequest.of(0, 10), PageRequest.of(100, 10), PageRequest.of(TODOS / 20, 10));
+
+        // 두 전략의 결과가 같은지 먼저 확인
+        for (TodoSearchRequest request : requests) {
+            for (Pageable pageable : pages) {
+                Page<TodoSearchResponse> single = qTodoRepository.searchTodos(request, pageable);
+                Page<TodoSearchResponse> twoPhase = qTodoRepository.searchTodosTwoPhase(request, pageable);
+
+                assertThat(twoPhase.getTotalElements()).isEqualTo(single.getTotalElements());
+                assertThat(twoPhase.getContent())
+                        .usingRecursiveFieldByFieldElementComparator()
+                        .containsExactlyElementsOf(single.getContent());
+            }
+        }
+
+        double single = measure(requests, pages, qTodoRepository::searchTodos);
+        double twoPhase = measure(requests, pages, qTodoRepository::searchTodosTwoPhase);
+
+        System.out.printf("[search benchmark] todos=%d SINGLE_QUERY=%.3fms TWO_PHASE=%.3fms (avg per call)%n",
+                TODOS, single, twoPhase);
+    }
+
+    private double measure(List<TodoSearchRequest> requests, List<Pageable> pages,
+                           BiFunction<TodoSearchRequest, Pageable, Page<TodoSearchResponse>> search) {
+        for (int i = 0; i < WARMUP; i++) {
+            requests.forEach(request -> pages.forEach(pageable -> search.apply(request, pageable)));
+        }
+
+        long calls = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            for (TodoSearchRequest request : requests) {
+                for (Pageable pageable : pages) {
+                    search.apply(request, pageable);
+                    calls++;
+                }
+            }
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / calls;
+    }
+
+    private TodoSearchRequest request(String title, String nickname) {
+        TodoSearchRequest request = new TodoSearchRequest();
+        ReflectionTestUtils.setField(request, "title", title);
+        ReflectionTestUtils.setField(request, "nickname", nickname);
+        return request;
+    }
+
+    private void seed() {
+        Timestamp base = Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0));
+
+        List<Object[]> users = new ArrayList<>();
+        for (long id = 1; id <= USERS; id++) {
+            users.add(new Object[]{id, "user" + id + "@example.com", "pw", "USER", "nick-" + id, base, base});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, email, password, user_role, nickname, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?)", users);
+
+        List<Object[]> todos = new ArrayList<>();
+        List<Object[]> counts = new ArrayList<>();
+        List<Object[]> managers = new ArrayList<>();
+        List<Object[]> comments = new ArrayList<>();
+        long managerId = 1;
+        long commentId = 1;
+        for (long id = 1; id <= TODOS; id++) {
+            long owner = (id % USERS) + 1;
+            long other = ((id + 7) % USERS) + 1;
+            Timestamp createdAt = new Timestamp(base.getTime() + id * 60_000L);
+
+            todos.add(new Object[]{id, "title-" + id, "contents", "Sunny", owner, createdAt, createdAt});
+            counts.add(new Object[]{id, 2L, (long) COMMENTS_PER_TODO});
+            managers.add(new Object[]{managerId++, owner, id});
+            managers.add(new Object[]{managerId++, other, id});
+            for (int c = 0; c < COMMENTS_PER_TODO; c++) {
+                comments.add(new Object[]{commentId++, "comment", owner, id, createdAt, createdAt});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?)", todos);
+        jdbcTemplate.batchUpdate("INSERT INTO todo_counts (todo_id, manager_count, comment_count, manager_version, comment_version) VALUES (?, ?, ?, 0, 0)", counts);
+        jdbcTemplate.batchUpdate("INSERT INTO managers (id, user_id, todo_id) VALUES (?, ?, ?)", managers);
+        jdbcTemplate.batchUpdate("INSERT INTO comments (id, contents, user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)", comments);
+    }
+}
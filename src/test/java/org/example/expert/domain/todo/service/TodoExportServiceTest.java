@@ -0,0 +1,116 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.expert.domain.todo.dto.response.TodoExportRow;
+import org.example.expert.domain.todo.enums.TodoExportFormat;
+import org.example.expert.domain.todo.repository.QTodoRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TodoExportServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+    private static final LocalDateTime MODIFIED_AT = LocalDateTime.of(2024, 1, 2, 3, 4, 6);
+
+    private final QTodoRepository qTodoRepository = mock(QTodoRepository.class);
+    // Spring Boot 기본 설정과 같게 날짜를 ISO 문자열로 쓴다
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final TodoExportService exportService = new TodoExportService(qTodoRepository, objectMapper, 500);
+
+    @Test
+    void NDJSON은_한_줄에_한_건씩_JSON_객체로_쓴다() throws IOException {
+        // given
+        givenRows(
+                row(1L, "plain", "contents", "Sunny", "nick"),
+                row(2L, "line\nbreak \"quoted\"", null, null, "닉네임")
+        );
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = exportService.export(TodoExportFormat.NDJSON, null, null, null, out);
+
+        // then
+        String body = out.toString(StandardCharsets.UTF_8);
+        String[] lines = body.split("\n", -1);
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[2]).isEmpty();
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.get("createdAt").asText()).isEqualTo("2024-01-02T03:04:05");
+        assertThat(first.get("userEmail").asText()).isEqualTo("user@example.com");
+
+        // 값 안의 줄바꿈/따옴표는 JSON 이스케이프되어 한 줄을 유지한다
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(second.get("title").asText()).isEqualTo("line\nbreak \"quoted\"");
+        assertThat(second.get("contents").isNull()).isTrue();
+        assertThat(second.get("userNickname").asText()).isEqualTo("닉네임");
+    }
+
+    @Test
+    void CSV는_헤더_뒤에_RFC_4180_규칙으로_이스케이프해_쓴다() throws IOException {
+        // given
+        givenRows(
+                row(1L, "plain", "a,b", "Sunny", "nick"),
+                row(2L, "say \"hi\"", "line1\nline2", null, "cr\rhere")
+        );
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = exportService.export(TodoExportFormat.CSV, null, null, null, out);
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,title,contents,weather,createdAt,modifiedAt,userId,userEmail,userNickname\n"
+                        + "1,plain,\"a,b\",Sunny,2024-01-02T03:04:05,2024-01-02T03:04:06,7,user@example.com,nick\n"
+                        + "2,\"say \"\"hi\"\"\",\"line1\nline2\",,2024-01-02T03:04:05,2024-01-02T03:04:06,7,user@example.com,\"cr\rhere\"\n"
+        );
+    }
+
+    @Test
+    void 결과가_없으면_NDJSON은_빈_본문_CSV는_헤더만_쓰고_커서를_닫는다() throws IOException {
+        // given
+        AtomicBoolean closed = new AtomicBoolean();
+        when(qTodoRepository.streamForExport(any(), any(), any(), eq(500)))
+                .thenAnswer(invocation -> Stream.<TodoExportRow>empty().onClose(() -> closed.set(true)));
+
+        // when
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        exportService.export(TodoExportFormat.NDJSON, null, null, null, ndjson);
+        exportService.export(TodoExportFormat.CSV, null, null, null, csv);
+
+        // then
+        assertThat(ndjson.toString(StandardCharsets.UTF_8)).isEmpty();
+        assertThat(csv.toString(StandardCharsets.UTF_8))
+                .isEqualTo("id,title,contents,weather,createdAt,modifiedAt,userId,userEmail,userNickname\n");
+        assertThat(closed).isTrue();
+    }
+
+    private void givenRows(TodoExportRow... rows) {
+        when(qTodoRepository.streamForExport(any(), any(), any(), eq(500))).thenAnswer(invocation -> Stream.of(rows));
+    }
+
+    private TodoExportRow row(Long id, String title, String contents, String weather, String nickname) {
+        return new TodoExportRow(id, title, contents, weather, CREATED_AT, MODIFIED_AT, 7L, "user@example.com", nickname);
+    }
+}
@@ -0,0 +1,233 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.AsyncConfig;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.repository.QTodoRepository;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.security.CustomUserDetails;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:todo-weather;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TodoService.class, TodoWeatherService.class, AsyncConfig.class, PersistenceConfig.class,
+        TodoWeatherServiceTest.WeatherConfig.class})
+// 저장 트랜잭션 커밋 이후의 비동기 채우기까지 검증하기 위해 테스트 트랜잭션을 쓰지 않는다
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoWeatherServiceTest {
+
+    private static final Duration WEATHER_LATENCY = Duration.ofSeconds(1);
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ConnectionHoldTimes holdTimes;
+
+    @MockBean
+    private QTodoRepository qTodoRepository;
+
+    @Autowired
+    private StubWeatherClient weatherClient;
+
+    private final CustomUserDetails user = new CustomUserDetails(1L, "user1@example.com", UserRole.USER, "nick-1");
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM managers");
+        jdbcTemplate.update("DELETE FROM todo_counts");
+        jdbcTemplate.update("DELETE FROM todos");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role, nickname, created_at, modified_at) "
+                + "VALUES (1, 'user1@example.com', 'x', 'USER', 'nick-1', NOW(), NOW())");
+    }
+
+    @Test
+    void 날씨_API_가_느려도_저장은_바로_끝나고_커넥션은_그만큼_잡고_있지_않는다() throws Exception {
+        weatherClient.unavailable = false;
+        holdTimes.clear();
+
+        long start = System.nanoTime();
+        TodoSaveResponse response = todoService.saveTodo(user, new TodoSaveRequest("title", "contents"));
+        Duration saveTime = Duration.ofNanos(System.nanoTime() - start);
+
+        // 저장 시점에는 받아둔 날씨가 없으므로 비어 있고, 응답은 날씨 API 를 기다리지 않는다
+        assertThat(response.getWeather()).isNull();
+        assertThat(saveTime).isLessThan(WEATHER_LATENCY.dividedBy(2));
+
+        // 날씨는 커밋 이후 비동기로 채워진다
+        String weather = null;
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (weather == null && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            weather = jdbcTemplate.queryForObject("SELECT weather FROM todos WHERE id = ?", String.class, response.getId());
+        }
+        assertThat(weather).isEqualTo("Sunny");
+
+        // 저장/채우기 어느 쪽도 날씨 API 를 기다리는 동안 커넥션을 잡고 있지 않다
+        assertThat(holdTimes.max()).isLessThan(WEATHER_LATENCY.dividedBy(2));
+    }
+
+    @Test
+    void 서킷이_열려_날씨를_받지_못하면_Unknown_을_저장하지_않고_비워_둔다() throws Exception {
+        weatherClient.unavailable = true;
+        weatherClient.refreshPeriodically();
+        assertThat(weatherClient.getStats().getCircuitState()).isEqualTo("OPEN");
+        long rejectedBefore = weatherClient.getStats().getRejectedCount();
+
+        TodoSaveResponse response = todoService.saveTodo(user, new TodoSaveRequest("title", "contents"));
+
+        // 비동기 채우기가 서킷에 막힐 때까지 기다린 뒤, 반영할 시간을 조금 더 준다
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (weatherClient.getStats().getRejectedCount() == rejectedBefore && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(weatherClient.getStats().getRejectedCount()).isGreaterThan(rejectedBefore);
+        Thread.sleep(300);
+
+        String weather = jdbcTemplate.queryForObject("SELECT weather FROM todos WHERE id = ?", String.class, response.getId());
+        assertThat(weather).isNull();
+    }
+
+    @TestConfiguration
+    static class WeatherConfig {
+
+        @Bean
+        StubWeatherClient weatherClient() {
+            return new StubWeatherClient();
+        }
+
+        @Bean
+        ConnectionHoldTimes connectionHoldTimes() {
+            return new ConnectionHoldTimes();
+        }
+
+        @Bean
+        static BeanPostProcessor holdTimeDataSourcePostProcessor(ObjectProvider<ConnectionHoldTimes> holdTimes) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource) {
+                        return new HoldTimeDataSource(dataSource, holdTimes.getObject());
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * 받아둔 날씨가 없는 클라이언트 - 평소에는 WEATHER_LATENCY 뒤에 "Sunny" 를 돌려주고,
+     * unavailable 이면 닫힌 포트로 실제 호출해 실패/서킷 열림을 그대로 겪는다. (실패 1회에 OPEN)
+     */
+    static class StubWeatherClient extends WeatherClient {
+
+        private volatile boolean unavailable;
+
+        StubWeatherClient() {
+            super(new RestTemplateBuilder(), "http://localhost:1", Duration.ofSeconds(1), Duration.ofSeconds(1), 1, Duration.ofSeconds(30));
+        }
+
+        @Override
+        public String findCachedTodayWeather() {
+            return null;
+        }
+
+        @Override
+        public String loadTodayWeather() {
+            if (unavailable) {
+                return super.loadTodayWeather();
+            }
+            try {
+                Thread.sleep(WEATHER_LATENCY.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "Sunny";
+        }
+    }
+
+    /**
+     * 커넥션을 빌린 시점부터 close(풀 반납)까지의 시간을 기록한다.
+     */
+    static class HoldTimeDataSource extends DelegatingDataSource {
+
+        private final ConnectionHoldTimes holdTimes;
+
+        HoldTimeDataSource(DataSource target, ConnectionHoldTimes holdTimes) {
+            super(target);
+            this.holdTimes = holdTimes;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            long borrowedAt = System.nanoTime();
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("close")) {
+                            holdTimes.record(Duration.ofNanos(System.nanoTime() - borrowedAt));
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+
+    static class ConnectionHoldTimes {
+
+        private final Queue<Duration> durations = new ConcurrentLinkedQueue<>();
+
+        void record(Duration duration) {
+            durations.add(duration);
+        }
+
+        void clear() {
+            durations.clear();
+        }
+
+        Duration max() {
+            return durations.stream().max(Duration::compareTo).orElse(Duration.ZERO);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package org.example.expert.domain.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.user.dto.response.UserImportFailure;
+import org.example.expert.domain.user.dto.response.UserImportResponse;
+import org.example.expert.domain.user.enums.UserImportFormat;
+import org.example.expert.domain.user.event.UserSavedEvent;
+import org.example.expert.domain.user.repository.UserBulkRepository;
+import org.example.expert.security.PasswordHasher;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest(properties = {
+        // MySQL 기본 collation 처럼 문자열 비교/유니크 제약이 대소문자를 구분하지 않게 한다
+        "spring.datasource.url=jdbc:h2:mem:user-import;MODE=MySQL;DATABASE_TO_LOWER=TRUE;IGNORECASE=TRUE",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "user.import.chunk-size=3"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({UserImportService.class, UserBulkRepository.class, UserImportServiceTest.ImportConfig.class})
+// 청크마다 커밋되는 흐름과 커밋 이후 이벤트를 그대로 검증하기 위해 테스트 트랜잭션을 쓰지 않는다
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserImportServiceTest {
+
+    private static final PasswordEncoder ENCODER = new BCryptPasswordEncoder(4);
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SavedUsers savedUsers;
+
+    @Test
+    void CSV_는_잘못된_행만_실패로_남기고_나머지는_배치로_저장한다() throws Exception {
+        jdbcTemplate.update("INSERT INTO users (email, password, user_role, nickname, created_at, modified_at) "
+                + "VALUES ('taken@example.com', 'x', 'USER', 'taken', NOW(), NOW())");
+        String csv = String.join("\n",
+                "email,password,userRole,nickname",
+                "a@example.com,pw-a,USER,\"kim, a\"",
+                "taken@example.com,pw,USER,dup-db",
+                "b@example.com,pw-b,ADMIN,",
+                "a@example.com,pw,USER,dup-file",
+                "not-an-email,pw,USER,bad",
+                "c@example.com,pw-c,KING,bad-role",
+                "d@example.com,\"pw-d",
+                "e@example.com,pw-e,user,e"
+        );
+
+        UserImportResponse response = userImportService.importUsers(UserImportFormat.CSV, stream(csv));
+
+        assertThat(response.getTotal()).isEqualTo(8);
+        assertThat(response.getImported()).isEqualTo(3);
+        assertThat(response.getFailed()).isEqualTo(5);
+        assertThat(response.getFailures()).extracting(UserImportFailure::getLine)
+                .containsExactlyInAnyOrder(3L, 5L, 6L, 7L, 8L);
+
+        Map<String, Object> a = jdbcTemplate.queryForMap("SELECT * FROM users WHERE email = 'a@example.com'");
+        assertThat(a.get("nickname")).isEqualTo("kim, a");
+        assertThat(ENCODER.matches("pw-a", (String) a.get("password"))).isTrue();
+        assertThat(jdbcTemplate.queryForObject("SELECT user_role FROM users WHERE email = 'e@example.com'", String.class))
+                .isEqualTo("USER");
+        List<Long> importedIds = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE email IN ('a@example.com', 'b@example.com', 'e@example.com')", Long.class);
+        assertThat(savedUsers.nicknames).containsKeys(importedIds.toArray(Long[]::new));
+        assertThat(savedUsers.nicknames).containsValues("kim, a", "e");
+    }
+
+    @Test
+    void NDJSON_형식_오류_행은_건너뛰고_이어서_처리한다() throws Exception {
+        String ndjson = String.join("\n",
+                "{\"email\":\"n1@example.com\",\"password\":\"pw\",\"userRole\":\"USER\",\"nickname\":\"n1\"}",
+                "{\"email\":\"n2@example.com\",",
+                "",
+                "{\"email\":\"n3@example.com\",\"password\":\"pw\",\"userRole\":\"USER\"}"
+        );
+
+        UserImportResponse response = userImportService.importUsers(UserImportFormat.NDJSON, stream(ndjson));
+
+        assertThat(response.getTotal()).isEqualTo(3);
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getFailures()).singleElement()
+                .extracting(UserImportFailure::getLine).isEqualTo(2L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email IN ('n1@example.com', 'n3@example.com')", Long.class)).isEqualTo(2L);
+    }
+
+    @Test
+    void 대소문자만_다른_이메일도_중복으로_처리한다() throws Exception {
+        jdbcTemplate.update("INSERT INTO users (email, password, user_role, nickname, created_at, modified_at) "
+                + "VALUES ('Case@example.com', 'x', 'USER', 'taken', NOW(), NOW())");
+        String ndjson = String.join("\n",
+                "{\"email\":\"case@example.com\",\"password\":\"pw\",\"userRole\":\"USER\"}",
+                "{\"email\":\"mixed@example.com\",\"password\":\"pw\",\"userRole\":\"USER\"}",
+                "{\"email\":\"MIXED@example.com\",\"password\":\"pw\",\"userRole\":\"USER\"}"
+        );
+
+        UserImportResponse response = userImportService.importUsers(UserImportFormat.NDJSON, stream(ndjson));
+
+        assertThat(response.getImported()).isEqualTo(1);
+        assertThat(response.getFailures())
+                .extracting(UserImportFailure::getLine, UserImportFailure::getEmail)
+                .containsExactlyInAnyOrder(tuple(1L, "case@example.com"), tuple(3L, "MIXED@example.com"));
+        assertThat(jdbcTemplate.queryForObject("SELECT email FROM users WHERE email = 'mixed@example.com'", String.class))
+                .isEqualTo("mixed@example.com");
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static class SavedUsers {
+
+        private final Map<Long, String> nicknames = new ConcurrentHashMap<>();
+
+        @TransactionalEventListener
+        public void onUserSaved(UserSavedEvent event) {
+            nicknames.put(event.getUserId(), String.valueOf(event.getNickname()));
+        }
+    }
+
+    @TestConfiguration
+    static class ImportConfig {
+
+        @Bean
+        PasswordHasher passwordHasher() {
+            return new PasswordHasher(ENCODER, 4, 16, Duration.ofSeconds(5));
+        }
+
+        @Bean
+        LocalValidatorFactoryBean validator() {
+            return new LocalValidatorFactoryBean();
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean
+        SavedUsers savedUsers() {
+            return new SavedUsers();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.event.UserUpdatedEvent;
+import org.example.expert.security.PasswordHasher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-service;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PersistenceConfig.class, UserService.class, UserServiceTest.HasherConfig.class})
+// 비밀번호 변경 안에서 열고 커밋하는 트랜잭션을 검증하므로 테스트 트랜잭션을 쓰지 않는다
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserServiceTest {
+
+    private static final String OLD_PASSWORD = "Password1";
+    private static final String NEW_PASSWORD = "Password2";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private RecordingPasswordHasher passwordHasher;
+
+    @Autowired
+    private UpdatedUsers updatedUsers;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        passwordHasher.transactionActive.clear();
+        passwordHasher.duringVerify = null;
+        updatedUsers.ids.clear();
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role, nickname, created_at, modified_at) "
+                + "VALUES (1, 'user1@example.com', ?, 'USER', 'nick-1', NOW(), NOW())", new BCryptPasswordEncoder(4).encode(OLD_PASSWORD));
+    }
+
+    @Test
+    void 비밀번호_검증과_해시는_트랜잭션_밖에서_실행하고_변경은_커밋_후_알린다() {
+        userService.changePassword(1L, new UserChangePasswordRequest(OLD_PASSWORD, NEW_PASSWORD));
+
+        assertThat(passwordHasher.transactionActive).containsExactly(false, false);
+        assertThat(new BCryptPasswordEncoder().matches(NEW_PASSWORD, storedPassword())).isTrue();
+        assertThat(updatedUsers.ids).containsExactly(1L);
+    }
+
+    @Test
+    void 검증_중에_비밀번호가_바뀌면_덮어쓰지_않는다() {
+        String changed = new BCryptPasswordEncoder(4).encode("Changed1");
+        passwordHasher.duringVerify = () -> jdbcTemplate.update("UPDATE users SET password = ? WHERE id = 1", changed);
+
+        assertThatThrownBy(() -> userService.changePassword(1L, new UserChangePasswordRequest(OLD_PASSWORD, NEW_PASSWORD)))
+                .isInstanceOf(InvalidRequestException.class);
+
+        assertThat(storedPassword()).isEqualTo(changed);
+        assertThat(updatedUsers.ids).isEmpty();
+    }
+
+    private String storedPassword() {
+        return jdbcTemplate.queryForObject("SELECT password FROM users WHERE id = 1", String.class);
+    }
+
+    @TestConfiguration
+    static class HasherConfig {
+
+        @Bean
+        RecordingPasswordHasher passwordHasher() {
+            return new RecordingPasswordHasher();
+        }
+
+        @Bean
+        UpdatedUsers updatedUsers() {
+            return new UpdatedUsers();
+        }
+    }
+
+    static class UpdatedUsers {
+
+        private final List<Long> ids = new ArrayList<>();
+
+        @TransactionalEventListener
+        public void onUserUpdated(UserUpdatedEvent event) {
+            ids.add(event.getUserId());
+        }
+    }
+
+    /**
+     * 검증/해시 시점에 호출 스레드에서 트랜잭션이 열려 있었는지 기록한다.
+     */
+    static class RecordingPasswordHasher extends PasswordHasher {
+
+        private final List<Boolean> transactionActive = new ArrayList<>();
+        private Runnable duringVerify;
+
+        RecordingPasswordHasher() {
+            super(new BCryptPasswordEncoder(4), 1, 4, Duration.ofSeconds(5));
+        }
+
+        @Override
+        public boolean matches(String rawPassword, String encodedPassword) {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            if (duringVerify != null) {
+                duringVerify.run();
+            }
+            return super.matches(rawPassword, encodedPassword);
+        }
+
+        @Override
+        public String encode(String rawPassword) {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return super.encode(rawPassword);
+        }
+    }
+}
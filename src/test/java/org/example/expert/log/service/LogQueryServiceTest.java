@@ -0,0 +1,110 @@
+package org.example.expert.log.service;
+
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.log.dto.LogResponse;
+import org.example.expert.log.repository.LogBucketRepository;
+import org.example.expert.log.repository.LogBucketRepository.NewLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:log-query;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+// 날짜 테이블 DDL 은 트랜잭션으로 되돌릴 수 없으므로 테스트 트랜잭션을 쓰지 않고 직접 정리한다
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LogQueryServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 10);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<LocalDate> scannedDays = new ArrayList<>();
+    private LogBucketRepository logBucketRepository;
+
+    @BeforeEach
+    void setUp() {
+        logBucketRepository = new LogBucketRepository(jdbcTemplate) {
+            @Override
+            public List<LogResponse> findPage(LocalDate day, String action, Cursor cursor, int limit) {
+                scannedDays.add(day);
+                return super.findPage(day, action, cursor, limit);
+            }
+        };
+        logBucketRepository.refreshBuckets();
+        logBucketRepository.getBuckets().forEach(logBucketRepository::dropBucket);
+
+        // 날짜마다 09~12시에 A, B, A, B
+        for (LocalDate day : List.of(TODAY.minusDays(4), TODAY.minusDays(2), TODAY.minusDays(1), TODAY)) {
+            List<NewLog> logs = new ArrayList<>();
+            for (int hour = 9; hour <= 12; hour++) {
+                String action = hour % 2 == 1 ? "A" : "B";
+                logs.add(new NewLog(action, action + "@" + day + "T" + hour, day.atTime(hour, 0)));
+            }
+            logBucketRepository.insertAll(day, logs);
+        }
+    }
+
+    @Test
+    void 커서로_날짜_테이블을_넘나들며_최신순으로_조회하고_필요한_테이블만_읽는다() {
+        LogQueryService logQueryService = new LogQueryService(logBucketRepository);
+
+        CursorResponse<LogResponse> first = logQueryService.getLogs("", 2, "A");
+        assertThat(first.getContent()).extracting(LogResponse::getMessage)
+                .containsExactly("A@" + TODAY + "T11", "A@" + TODAY + "T9");
+        // size + 1 건을 채우는 데 필요한 오늘, 어제 테이블만 읽는다
+        assertThat(scannedDays).containsExactly(TODAY, TODAY.minusDays(1));
+
+        List<String> messages = new ArrayList<>(first.getContent().stream().map(LogResponse::getMessage).toList());
+        CursorResponse<LogResponse> page = first;
+        CursorResponse<LogResponse> second = null;
+        while (page.isHasNext()) {
+            page = logQueryService.getLogs(page.getNextCursor(), 2, "A");
+            if (second == null) {
+                second = page;
+            }
+            page.getContent().forEach(log -> messages.add(log.getMessage()));
+        }
+        assertThat(messages).containsExactly(
+                "A@" + TODAY + "T11", "A@" + TODAY + "T9",
+                "A@" + TODAY.minusDays(1) + "T11", "A@" + TODAY.minusDays(1) + "T9",
+                "A@" + TODAY.minusDays(2) + "T11", "A@" + TODAY.minusDays(2) + "T9",
+                "A@" + TODAY.minusDays(4) + "T11", "A@" + TODAY.minusDays(4) + "T9");
+
+        // 이전 페이지로 돌아가면 첫 페이지와 같다
+        CursorResponse<LogResponse> back = logQueryService.getLogs(second.getPrevCursor(), 2, "A");
+        assertThat(back.getContent()).extracting(LogResponse::getMessage)
+                .containsExactly("A@" + TODAY + "T11", "A@" + TODAY + "T9");
+        assertThat(back.isHasPrev()).isFalse();
+    }
+
+    @Test
+    void 보관_기간이_지난_날짜_테이블만_통째로_삭제한다() {
+        LogRetentionService logRetentionService = new LogRetentionService(logBucketRepository, 3);
+
+        List<LocalDate> dropped = logRetentionService.dropExpired(TODAY);
+
+        assertThat(dropped).containsExactly(TODAY.minusDays(4));
+        logBucketRepository.refreshBuckets();
+        assertThat(logBucketRepository.getBuckets()).containsExactly(TODAY.minusDays(2), TODAY.minusDays(1), TODAY);
+        assertThat(new LogQueryService(logBucketRepository).getLogs("", 100, null).getContent()).hasSize(12);
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.expert.log.service;
+
+import org.example.expert.log.dto.LogWriterStatsResponse;
+import org.example.expert.log.enums.LogOverflowPolicy;
+import org.example.expert.log.repository.LogBucketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:log-writer;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+// 백그라운드 스레드가 저장한 결과를 확인하므로 테스트 트랜잭션을 쓰지 않는다
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LogServiceTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LogBucketRepository logBucketRepository;
+
+    @BeforeEach
+    void setUp() {
+        logBucketRepository = new LogBucketRepository(jdbcTemplate);
+        logBucketRepository.refreshBuckets();
+        logBucketRepository.getBuckets().forEach(logBucketRepository::dropBucket);
+    }
+
+    @Test
+    void 로그를_배치로_모아_저장하고_종료_시_남은_로그까지_저장한다() {
+        LogService logService = new LogService(logBucketRepository,
+                1000, 100, Duration.ofMillis(200), LogOverflowPolicy.DROP_NEWEST, Duration.ofSeconds(10));
+        logService.start();
+
+        for (int i = 0; i < 250; i++) {
+            logService.saveLog("MANAGER_REGISTER", "message-" + i);
+        }
+        logService.shutdown();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + todayTable(), Long.class)).isEqualTo(250);
+        LogWriterStatsResponse stats = logService.getStats();
+        assertThat(stats.getWrittenCount()).isEqualTo(250);
+        assertThat(stats.getQueueDepth()).isZero();
+        // 로그마다가 아니라 batch-size 단위로 저장
+        assertThat(stats.getBatchCount()).isBetween(3L, 10L);
+    }
+
+    @Test
+    void 대기열이_가득_차면_DROP_NEWEST_는_새_로그를_버린다() throws Exception {
+        assertThat(fillUntilOverflow(LogOverflowPolicy.DROP_NEWEST)).containsExactlyInAnyOrder("a", "b", "c");
+    }
+
+    @Test
+    void 대기열이_가득_차면_DROP_OLDEST_는_오래된_로그를_버린다() throws Exception {
+        assertThat(fillUntilOverflow(LogOverflowPolicy.DROP_OLDEST)).containsExactlyInAnyOrder("a", "d", "e");
+    }
+
+    /**
+     * writer 가 "a" 를 저장하다 멈춘 사이 b, c 로 대기열(2칸)을 채우고 d, e 를 더 넣는다.
+     */
+    private List<String> fillUntilOverflow(LogOverflowPolicy policy) throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        LogBucketRepository blockingRepository = new LogBucketRepository(jdbcTemplate) {
+            @Override
+            public void insertAll(LocalDate day, List<NewLog> logs) {
+                writing.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.insertAll(day, logs);
+            }
+        };
+        LogService logService = new LogService(blockingRepository,
+                2, 1, Duration.ofMillis(50), policy, Duration.ofSeconds(10));
+        logService.start();
+
+        logService.saveLog("TEST", "a");
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        for (String message : List.of("b", "c", "d", "e")) {
+            logService.saveLog("TEST", message);
+        }
+        assertThat(logService.getStats().getQueueDepth()).isEqualTo(2);
+        assertThat(logService.getStats().getDroppedCount()).isEqualTo(2);
+
+        release.countDown();
+        logService.shutdown();
+        return jdbcTemplate.queryForList("SELECT message FROM " + todayTable(), String.class);
+    }
+
+    private String todayTable() {
+        return LogBucketRepository.tableName(LocalDate.now());
+    }
+}
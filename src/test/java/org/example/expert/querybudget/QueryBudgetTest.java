@@ -0,0 +1,229 @@
+package org.example.expert.querybudget;
+
+import com.jayway.jsonpath.JsonPath;
+import org.example.expert.domain.common.exception.QueryBudgetExceededException;
+import org.example.expert.querybudget.annotation.QueryBudget;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * 엔드포인트별 SQL 문 예산 - 모든 컨트롤러 메서드를 한 번씩 호출해 @QueryBudget 을 넘지 않는지 확인한다. (mode=FAIL)
+ * 예산은 캐시가 비어 있을 때(최악의 경우)의 실행 횟수로 고정해 두었으므로, 지연 로딩 매퍼 등으로 조회가 늘면 이 테스트가 실패한다.
+ * 엔드포인트를 추가하면 @QueryBudget 을 붙이고 아래 호출 목록에도 넣어야 한다. (빠지면 마지막 검사에서 실패)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-budget;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "jwt.secret.key=cXVlcnktYnVkZ2V0LXNlY3JldC1rZXktcXVlcnktYnVkZ2V0LXNlY3JldC1rZXk=",
+        "jwt.revocation.snapshot-path=",
+        "weather.base-url=http://localhost:9",
+        "management.server.port=-1",
+        "query-budget.mode=FAIL"
+})
+@AutoConfigureMockMvc
+@Import(QueryBudgetTest.NPlusOneController.class)
+class QueryBudgetTest {
+
+    private static final String PASSWORD = "Password1234";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RequestMappingHandlerMapping handlerMapping;
+
+    // 호출된 컨트롤러 메서드
+    private final Set<Method> called = new HashSet<>();
+
+    @Test
+    void 모든_엔드포인트가_SQL_예산_안에서_실행된다() throws Exception {
+        // 인증
+        String owner = token(call(post("/auth/signup").contentType(MediaType.APPLICATION_JSON)
+                .content(signup("owner@example.com", "USER"))));
+        String manager1 = token(call(post("/auth/signup").contentType(MediaType.APPLICATION_JSON)
+                .content(signup("manager1@example.com", "USER"))));
+        token(call(post("/auth/signup").contentType(MediaType.APPLICATION_JSON)
+                .content(signup("manager2@example.com", "USER"))));
+        String admin = token(call(post("/auth/signup").contentType(MediaType.APPLICATION_JSON)
+                .content(signup("admin@example.com", "ADMIN"))));
+        call(post("/auth/signin").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"owner@example.com\",\"password\":\"" + PASSWORD + "\"}"));
+
+        // 일정 / 담당자 / 댓글 - 목록 조회에서 N+1 이 드러나도록 여러 건
+        long todoId = 0;
+        for (int i = 1; i <= 3; i++) {
+            todoId = id(call(post("/todos").header(HttpHeaders.AUTHORIZATION, owner).contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"title\":\"title-" + i + "\",\"contents\":\"contents-" + i + "\"}")));
+        }
+        long managerId = id(call(post("/todos/{todoId}/managers", todoId).header(HttpHeaders.AUTHORIZATION, owner).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"managerUserId\":" + userId("manager1@example.com") + "}")));
+        call(post("/todos/{todoId}/managers", todoId).header(HttpHeaders.AUTHORIZATION, owner).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"managerUserId\":" + userId("manager2@example.com") + "}"));
+        for (int i = 1; i <= 3; i++) {
+            call(post("/todos/{todoId}/comments", todoId).header(HttpHeaders.AUTHORIZATION, i == 1 ? owner : manager1).contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"contents\":\"comment-" + i + "\"}"));
+        }
+
+        // 조회
+        call(get("/todos").header(HttpHeaders.AUTHORIZATION, owner));
+        call(get("/todos").param("cursor", "").header(HttpHeaders.AUTHORIZATION, owner));
+        call(get("/todos/export").header(HttpHeaders.AUTHORIZATION, owner));
+        call(get("/todos/{todoId}", todoId).header(HttpHeaders.AUTHORIZATION, owner));
+        call(get("/todos/{todoId}/managers", todoId).header(HttpHeaders.AUTHORIZATION, owner));
+        MvcResult allComments = call(get("/todos/{todoId}/comments", todoId).header(HttpHeaders.AUTHORIZATION, owner));
+        // 커서 없는 전체 목록은 기존 응답 형식(id, contents, user) 그대로
+        assertThat(JsonPath.<Map<String, Object>>read(allComments.getResponse().getContentAsString(), "$[0]"))
+                .containsOnlyKeys("id", "contents", "user");
+        String nextCursor = JsonPath.read(call(get("/todos/{todoId}/comments", todoId).param("cursor", "").param("size", "2")
+                .header(HttpHeaders.AUTHORIZATION, owner)).getResponse().getContentAsString(), "$.nextCursor");
+        MvcResult lastPage = call(get("/todos/{todoId}/comments", todoId).param("cursor", nextCursor).param("size", "2")
+                .header(HttpHeaders.AUTHORIZATION, owner));
+        assertThat(JsonPath.<List<String>>read(lastPage.getResponse().getContentAsString(), "$.content[*].contents"))
+                .containsExactly("comment-1");
+        call(get("/search").param("title", "title").header(HttpHeaders.AUTHORIZATION, owner));
+        call(get("/search").param("title", "title").param("slice", "true").header(HttpHeaders.AUTHORIZATION, owner));
+        call(get("/search").param("title", "title").param("cursor", "").header(HttpHeaders.AUTHORIZATION, owner));
+        // slice 와 cursor 를 함께 주면 커서 검색으로 처리한다
+        MvcResult sliceAndCursor = call(get("/search").param("title", "title").param("slice", "true").param("cursor", "")
+                .header(HttpHeaders.AUTHORIZATION, owner));
+        assertThat(((HandlerMethod) sliceAndCursor.getHandler()).getMethod().getName()).isEqualTo("searchTodosByCursor");
+        call(get("/users/{userId}", userId("owner@example.com")).header(HttpHeaders.AUTHORIZATION, owner));
+
+        // 변경
+        call(delete("/todos/{todoId}/managers/{managerId}", todoId, managerId).header(HttpHeaders.AUTHORIZATION, owner));
+        call(put("/users").header(HttpHeaders.AUTHORIZATION, manager1).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"oldPassword\":\"" + PASSWORD + "\",\"newPassword\":\"NewPassword1234\"}"));
+
+        // 관리자
+        call(patch("/admin/users/{userId}", userId("manager2@example.com")).header(HttpHeaders.AUTHORIZATION, admin).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"role\":\"ADMIN\"}"));
+        call(post("/admin/users/{userId}/tokens/revoke", userId("manager2@example.com")).header(HttpHeaders.AUTHORIZATION, admin));
+        call(post("/admin/users/import").header(HttpHeaders.AUTHORIZATION, admin).contentType("application/x-ndjson")
+                .content("{\"email\":\"import1@example.com\",\"password\":\"" + PASSWORD + "\",\"userRole\":\"USER\",\"nickname\":\"i1\"}\n"
+                        + "{\"email\":\"import2@example.com\",\"password\":\"" + PASSWORD + "\",\"userRole\":\"USER\",\"nickname\":\"i2\"}\n"));
+        call(post("/admin/todos/counts/recount").header(HttpHeaders.AUTHORIZATION, admin));
+        call(post("/admin/search-index/rebuild").header(HttpHeaders.AUTHORIZATION, admin));
+        call(get("/admin/search-index/stats").header(HttpHeaders.AUTHORIZATION, admin));
+        call(get("/admin/cache/stats").header(HttpHeaders.AUTHORIZATION, admin));
+        call(get("/admin/cache/principal").header(HttpHeaders.AUTHORIZATION, admin));
+        call(get("/admin/weather/stats").header(HttpHeaders.AUTHORIZATION, admin));
+        call(get("/admin/logs").header(HttpHeaders.AUTHORIZATION, admin));
+        call(get("/admin/logs/writer/stats").header(HttpHeaders.AUTHORIZATION, admin));
+
+        // 로그아웃은 토큰을 폐기하므로 마지막에
+        call(post("/auth/signout").header(HttpHeaders.AUTHORIZATION, owner));
+
+        // 모든 컨트롤러 메서드에 예산이 있고 위에서 한 번 이상 호출했는지
+        Set<Method> endpoints = handlerMapping.getHandlerMethods().values().stream()
+                .filter(handlerMethod -> handlerMethod.getBeanType().getPackageName().startsWith("org.example.expert"))
+                .filter(handlerMethod -> handlerMethod.getBeanType() != NPlusOneController.class)
+                .map(HandlerMethod::getMethod)
+                .collect(Collectors.toSet());
+        assertThat(endpoints).allSatisfy(method -> assertThat(method.isAnnotationPresent(QueryBudget.class))
+                .as("@QueryBudget 이 없는 엔드포인트: %s", method).isTrue());
+        assertThat(called).containsAll(endpoints);
+    }
+
+    @Test
+    void 예산을_넘으면_반복된_SQL_을_N_1_의심으로_보고하며_실패한다() throws Exception {
+        String token = null;
+        for (int i = 1; i <= 3; i++) {
+            token = token(call(post("/auth/signup").contentType(MediaType.APPLICATION_JSON)
+                    .content(signup("n-plus-one-" + i + "@example.com", "USER"))));
+        }
+        MockHttpServletRequestBuilder request = get("/test/query-budget/n-plus-one").header(HttpHeaders.AUTHORIZATION, token);
+
+        assertThatThrownBy(() -> mockMvc.perform(request))
+                .isInstanceOf(QueryBudgetExceededException.class)
+                .hasMessageContaining("NPlusOneController.nPlusOne")
+                .hasMessageContaining("4 회 실행 (예산 2)")
+                .hasMessageContaining("N+1 의심")
+                .hasMessageContaining("3 x SELECT email FROM users WHERE id = ?");
+    }
+
+    private MvcResult call(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        assertThat(result.getResponse().getStatus())
+                .as("%s %s - %s", result.getRequest().getMethod(), result.getRequest().getRequestURI(), result.getResponse().getContentAsString())
+                .isBetween(200, 299);
+        if (result.getHandler() instanceof HandlerMethod handlerMethod) {
+            called.add(handlerMethod.getMethod());
+        }
+        return result;
+    }
+
+    private long userId(String email) {
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+    }
+
+    private static String signup(String email, String userRole) {
+        return "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\",\"userRole\":\"" + userRole + "\"}";
+    }
+
+    private static String token(MvcResult result) throws Exception {
+        return JsonPath.read(result.getResponse().getContentAsString(), "$.bearerToken");
+    }
+
+    private static long id(MvcResult result) throws Exception {
+        return ((Number) JsonPath.read(result.getResponse().getContentAsString(), "$.id")).longValue();
+    }
+
+    /**
+     * 연관 엔티티를 하나씩 조회하는 전형적인 N+1 - 목록 1회 + 행마다 1회
+     */
+    @RestController
+    static class NPlusOneController {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        NPlusOneController(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @GetMapping("/test/query-budget/n-plus-one")
+        @QueryBudget(2)
+        public String nPlusOne() {
+            List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM users ORDER BY id LIMIT 3", Long.class);
+            StringBuilder emails = new StringBuilder();
+            for (Long id : ids) {
+                emails.append(jdbcTemplate.queryForObject("SELECT email FROM users WHERE id = ?", String.class, id));
+            }
+            return emails.toString();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.expert.search.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramIndexTest {
+
+    @Test
+    void 대소문자를_무시하고_부분_문자열을_포함하는_id만_반환한다() {
+        // given
+        NgramIndex index = new NgramIndex();
+        index.put(3L, "Weekly Report");
+        index.put(1L, "report draft");
+        index.put(2L, "Daily standup");
+
+        // when
+        long[] result = index.search("REPORT");
+
+        // then
+        assertThat(result).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void 악센트를_무시하고_비교해_DB_collation_이_찾는_행을_빠뜨리지_않는다() {
+        // given
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "Café au lait");
+        index.put(2L, "cafeteria");
+        index.put(3L, "한글 제목");
+        index.put(4L, "other");
+
+        // when & then
+        assertThat(index.search("cafe")).containsExactly(1L, 2L);
+        assertThat(index.search("CAFÉ")).containsExactly(1L, 2L);
+        assertThat(index.search("한글 제")).containsExactly(3L);
+    }
+
+    @Test
+    void trigram은_모두_포함하지만_연속되지_않으면_제외한다() {
+        // given
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "abcd xbcde");
+
+        // when & then
+        assertThat(index.search("abcde")).isEmpty();
+        assertThat(index.search("bcde")).containsExactly(1L);
+    }
+
+    @Test
+    void 세_글자_미만_검색어는_좁힐_수_없어_null을_반환한다() {
+        // given
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "todo");
+
+        // when & then
+        assertThat(index.search("to")).isNull();
+    }
+
+    @Test
+    void 갱신과_삭제가_색인에_반영된다() {
+        // given
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "old title");
+        index.put(2L, "other title");
+
+        // when
+        index.put(1L, "new name");
+        index.remove(2L);
+
+        // then
+        assertThat(index.search("title")).isEmpty();
+        assertThat(index.search("new")).containsExactly(1L);
+        assertThat(index.documentCount()).isEqualTo(1);
+        assertThat(index.getMaxId()).isEqualTo(2L);
+    }
+}
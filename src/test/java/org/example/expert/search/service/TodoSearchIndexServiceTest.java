@@ -0,0 +1,163 @@
+package org.example.expert.search.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.domain.todo.dto.request.TodoSearchRequest;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoCount;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.repository.QTodoRepositoryImpl;
+import org.example.expert.domain.todo.repository.TodoCountRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoSearchCountCache;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.search.repository.SearchIndexSourceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:search-index;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, PersistenceConfig.class, QTodoRepositoryImpl.class, TodoSearchCountCache.class,
+        TodoSearchIndexService.class, SearchIndexSourceRepository.class})
+// 색인은 커밋 이후 이벤트로 반영되므로 테스트 트랜잭션을 쓰지 않는다
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoSearchIndexServiceTest {
+
+    @Autowired
+    private TodoSearchIndexService searchIndexService;
+
+    @Autowired
+    private QTodoRepositoryImpl qTodoRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TodoCountRepository todoCountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM managers");
+        jdbcTemplate.update("DELETE FROM todo_counts");
+        jdbcTemplate.update("DELETE FROM todos");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void 제목을_바꾸면_커밋_직후_검색에_반영된다() {
+        // given - 색인 빌드 이후의 변경이어야 색인이 검색 결과를 결정한다
+        Long todoId = saveTodo("alpha report", "owner");
+        searchIndexService.rebuild();
+        assertThat(searchByTitle("weekly")).isEmpty();
+
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+                ReflectionTestUtils.setField(todoRepository.findById(todoId).orElseThrow(), "title", "weekly sync"));
+
+        // then
+        assertThat(searchByTitle("weekly")).extracting(TodoSearchResponse::getId).containsExactly(todoId);
+        assertThat(searchByTitle("alpha")).isEmpty();
+    }
+
+    @Test
+    void 닉네임을_바꾸면_커밋_직후_담당자_검색에_반영된다() {
+        // given
+        Long todoId = saveTodo("title", "before");
+        Long userId = userRepository.findAll().get(0).getId();
+        searchIndexService.rebuild();
+
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+                ReflectionTestUtils.setField(userRepository.findById(userId).orElseThrow(), "nickname", "renamed"));
+
+        // then
+        assertThat(searchByNickname("renamed")).extracting(TodoSearchResponse::getId).containsExactly(todoId);
+        assertThat(searchByNickname("before")).isEmpty();
+    }
+
+    @Test
+    void 더_큰_id가_먼저_색인돼도_늦게_커밋된_작은_id는_검색에서_빠지지_않는다() {
+        // given - 빌드 시점 최대 id 는 owner 의 일정
+        Long built = saveTodo("built title", "owner");
+        long userId = userRepository.findAll().get(0).getId();
+        searchIndexService.rebuild();
+
+        // 먼저 발급된 id(late)는 아직 커밋 이벤트가 오지 않았고, 나중에 발급된 id(early)가 먼저 커밋돼 색인됐다
+        long late = built + 10;
+        long early = built + 20;
+        insertTodo(late, "late commit", userId);
+        insertTodo(early, "early commit", userId);
+        searchIndexService.onTodoSaved(new TodoSavedEvent(early, "early commit", userId));
+
+        // when & then
+        assertThat(searchByTitle("late commit")).extracting(TodoSearchResponse::getId).containsExactly(late);
+
+        // 한 주기가 지나도 경계는 직전 주기에 관측한 값까지만 오른다
+        searchIndexService.advanceWatermarks();
+        assertThat(searchByTitle("late commit")).extracting(TodoSearchResponse::getId).containsExactly(late);
+    }
+
+    private Long saveTodo(String title, String nickname) {
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.save(new User(nickname + "@example.com", "pw", UserRole.USER));
+            ReflectionTestUtils.setField(user, "nickname", nickname);
+            Todo todo = todoRepository.save(new Todo(title, "contents", "Sunny", user));
+            todoCountRepository.save(new TodoCount(todo));
+            return todo.getId();
+        });
+    }
+
+    private void insertTodo(long id, String title, long userId) {
+        jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) "
+                + "VALUES (?, ?, 'contents', 'Sunny', ?, NOW(), NOW())", id, title, userId);
+        jdbcTemplate.update("INSERT INTO todo_counts (todo_id, manager_count, comment_count, manager_version, comment_version) "
+                + "VALUES (?, 0, 0, 0, 0)", id);
+    }
+
+    private List<TodoSearchResponse> searchByTitle(String title) {
+        return search(title, null);
+    }
+
+    private List<TodoSearchResponse> searchByNickname(String nickname) {
+        return search(null, nickname);
+    }
+
+    private List<TodoSearchResponse> search(String title, String nickname) {
+        TodoSearchRequest request = new TodoSearchRequest();
+        ReflectionTestUtils.setField(request, "title", title);
+        ReflectionTestUtils.setField(request, "nickname", nickname);
+        return qTodoRepository.searchTodos(request, PageRequest.of(0, 10)).getContent();
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.expert.security;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Spring BCryptPasswordEncoder vs at.favre.lib:bcrypt - cost 별 encode / matches 평균 시간
+ * ./gradlew benchmark 로 실행, 반복 수는 -Dbenchmark.rounds 로 조절
+ */
+@Tag("benchmark")
+class BCryptEncoderBenchmarkTest {
+
+    private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 20);
+    private static final int WARMUP = 3;
+    private static final int[] COSTS = {10, 12};
+
+    @Test
+    void bcrypt_구현을_비교한다() {
+        for (int cost : COSTS) {
+            report("spring", cost, new BCryptPasswordEncoder(cost));
+            report("favre ", cost, new FavreBCryptPasswordEncoder(cost));
+        }
+    }
+
+    private void report(String name, int cost, PasswordEncoder encoder) {
+        String hash = encoder.encode("Password1234");
+        assertThat(encoder.matches("Password1234", hash)).isTrue();
+
+        for (int i = 0; i < WARMUP; i++) {
+            encoder.matches("Password1234", encoder.encode("Password1234"));
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            encoder.encode("Password1234");
+        }
+        double encode = (System.nanoTime() - start) / 1_000_000.0 / ROUNDS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            encoder.matches("Password1234", hash);
+        }
+        double matches = (System.nanoTime() - start) / 1_000_000.0 / ROUNDS;
+
+        System.out.printf("[bcrypt benchmark] %s cost=%d encode=%.2fms matches=%.2fms%n", name, cost, encode, matches);
+    }
+}
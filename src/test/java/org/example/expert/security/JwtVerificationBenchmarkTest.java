@@ -0,0 +1,75 @@
+package org.example.expert.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 검증 비용 비교 - 요청마다 파서 생성(기존) vs 공유 파서 vs 검증 캐시
+ * ./gradlew benchmark 로 실행, 토큰 수/반복은 -Dbenchmark.tokens / -Dbenchmark.rounds 로 조절
+ */
+@Tag("benchmark")
+class JwtVerificationBenchmarkTest {
+
+    private static final int TOKENS = Integer.getInteger("benchmark.tokens", 1_000);
+    private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 50);
+    private static final int WARMUP = 10;
+    private static final String SECRET = Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret-key".getBytes());
+
+    @Test
+    void 토큰_검증_경로를_비교한다() {
+        JwtUtil cached = jwtUtil(true);
+        JwtUtil uncached = jwtUtil(false);
+        Key key = (Key) ReflectionTestUtils.getField(cached, "key");
+
+        List<String> tokens = new ArrayList<>();
+        for (long id = 1; id <= TOKENS; id++) {
+            tokens.add(cached.substringToken(cached.createToken(id, "user" + id + "@example.com", UserRole.USER, "nick-" + id)));
+        }
+
+        Function<String, Claims> perRequestParser = token -> Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+
+        for (String token : tokens) {
+            assertThat(cached.extractClaims(token).getSubject()).isEqualTo(perRequestParser.apply(token).getSubject());
+        }
+
+        double perRequest = measure(tokens, perRequestParser);
+        double shared = measure(tokens, uncached::extractClaims);
+        double verifiedCache = measure(tokens, cached::extractClaims);
+
+        System.out.printf("[jwt benchmark] tokens=%d per-request parser=%.2fus shared parser=%.2fus verified cache=%.2fus (avg per call)%n",
+                TOKENS, perRequest, shared, verifiedCache);
+    }
+
+    private double measure(List<String> tokens, Function<String, Claims> verify) {
+        for (int i = 0; i < WARMUP; i++) {
+            tokens.forEach(verify::apply);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            tokens.forEach(verify::apply);
+        }
+        return (System.nanoTime() - start) / 1_000.0 / ((long) ROUNDS * tokens.size());
+    }
+
+    private JwtUtil jwtUtil(boolean verifiedCacheEnabled) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheEnabled", verifiedCacheEnabled);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheMaxSize", 100_000L);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
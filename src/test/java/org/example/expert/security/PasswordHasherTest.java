@@ -0,0 +1,82 @@
+package org.example.expert.security;
+
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void 대기열이_차면_기다리지_않고_503_으로_거절한다() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        PasswordHasher hasher = new PasswordHasher(blocking, 1, 1, Duration.ofSeconds(5));
+
+        callers.submit(() -> hasher.encode("running"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        callers.submit(() -> hasher.encode("queued"));
+        while (hasher.getQueueDepth() < 1) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> hasher.encode("rejected"))
+                .isInstanceOf(ServiceUnavailableException.class);
+
+        release.countDown();
+        hasher.shutdown();
+    }
+
+    @Test
+    void 낮은_cost_해시는_검증과_함께_재해시한다() {
+        String legacy = new BCryptPasswordEncoder(4).encode("Password1");
+        PasswordHasher hasher = new PasswordHasher(new BCryptPasswordEncoder(5), 1, 4, Duration.ofSeconds(5));
+
+        PasswordHasher.Verification verification = hasher.verify("Password1", legacy);
+
+        assertThat(verification.isMatched()).isTrue();
+        assertThat(verification.getRehashed()).startsWith("$2a$05$");
+        assertThat(hasher.verify("Password1", verification.getRehashed()).getRehashed()).isNull();
+        assertThat(hasher.verify("wrong", legacy).isMatched()).isFalse();
+        hasher.shutdown();
+    }
+
+    @Test
+    void favre_인코더와_spring_인코더는_서로의_해시를_검증한다() {
+        FavreBCryptPasswordEncoder favre = new FavreBCryptPasswordEncoder(4);
+        BCryptPasswordEncoder spring = new BCryptPasswordEncoder(4);
+
+        assertThat(spring.matches("Password1", favre.encode("Password1"))).isTrue();
+        assertThat(favre.matches("Password1", spring.encode("Password1"))).isTrue();
+        assertThat(new FavreBCryptPasswordEncoder(5).upgradeEncoding(spring.encode("Password1"))).isTrue();
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.expert.security;
+
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.event.UserUpdatedEvent;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PrincipalResolverTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PrincipalResolver resolver = new PrincipalResolver(userRepository, PrincipalMode.CACHE, Duration.ofMinutes(5), 100);
+
+    @Test
+    void 같은_유저는_한_번만_조회하고_비밀번호를_담지_않는다() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L, UserRole.USER)));
+
+        CustomUserDetails first = resolver.getCached(1L);
+        CustomUserDetails second = resolver.getCached(1L);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getPassword()).isNull();
+        verify(userRepository, times(1)).findById(1L);
+        assertThat(resolver.getStats().getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 변경_이벤트_이후에는_다시_조회한다() {
+        when(userRepository.findById(1L))
+                .thenReturn(Optional.of(user(1L, UserRole.USER)))
+                .thenReturn(Optional.of(user(1L, UserRole.ADMIN)));
+
+        resolver.getCached(1L);
+        resolver.onUserUpdated(new UserUpdatedEvent(1L));
+
+        assertThat(resolver.getCached(1L).getUserRole()).isEqualTo(UserRole.ADMIN);
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void 없는_유저는_null_이고_캐시하지_않는다() {
+        when(userRepository.findById(2L)).thenReturn(Optional.empty());
+
+        assertThat(resolver.getCached(2L)).isNull();
+        assertThat(resolver.getCached(2L)).isNull();
+        verify(userRepository, times(2)).findById(2L);
+    }
+
+    private User user(Long id, UserRole role) {
+        User user = new User("user" + id + "@example.com", "encoded", role);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
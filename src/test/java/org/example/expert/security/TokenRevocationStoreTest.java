@@ -0,0 +1,88 @@
+package org.example.expert.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void 폐기한_토큰만_막고_같은_사용자의_다른_토큰은_통과시킨다() {
+        TokenRevocationStore store = new TokenRevocationStore(100, "", Duration.ofMinutes(1));
+        Claims revoked = claims(1L, "jti-1", 0, 30);
+        Claims other = claims(1L, "jti-2", 0, 30);
+
+        store.revoke(revoked);
+
+        assertThat(store.isRevoked(revoked)).isTrue();
+        assertThat(store.isRevoked(other)).isFalse();
+        assertThat(store.getRevokedTokenCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 사용자_전체_폐기는_그_이전에_발급된_토큰만_막는다() {
+        TokenRevocationStore store = new TokenRevocationStore(100, "", Duration.ofMinutes(1));
+
+        store.revokeAll(1L);
+
+        assertThat(store.isRevoked(claims(1L, "old", -10, 30))).isTrue();
+        assertThat(store.isRevoked(claims(1L, "new", 10, 30))).isFalse();
+        assertThat(store.isRevoked(claims(2L, "other-user", -10, 30))).isFalse();
+    }
+
+    @Test
+    void 이미_만료된_토큰은_보관하지_않고_가득_차면_사용자_단위로_폐기한다() {
+        TokenRevocationStore store = new TokenRevocationStore(1, "", Duration.ofMinutes(1));
+
+        store.revoke(claims(1L, "expired", -120, -60));
+        assertThat(store.getRevokedTokenCount()).isZero();
+
+        store.revoke(claims(1L, "first", -10, 30));
+        store.revoke(claims(2L, "overflow", -10, 30));
+
+        assertThat(store.getRevokedTokenCount()).isEqualTo(1);
+        assertThat(store.getRevokedUserCount()).isEqualTo(1);
+        assertThat(store.isRevoked(claims(2L, "another", -10, 30))).isTrue();
+    }
+
+    @Test
+    void 스냅샷으로_재시작_후에도_폐기_목록이_유지된다() {
+        String path = tempDir.resolve("revocations.bin").toString();
+        Claims revoked = claims(1L, "jti-1", 0, 30);
+
+        TokenRevocationStore before = new TokenRevocationStore(100, path, Duration.ofMinutes(1));
+        before.revoke(revoked);
+        before.revokeAll(2L);
+        before.snapshot();
+
+        TokenRevocationStore after = new TokenRevocationStore(100, path, Duration.ofMinutes(1));
+        after.init();
+        try {
+            assertThat(after.isRevoked(revoked)).isTrue();
+            assertThat(after.isRevoked(claims(2L, "old", -10, 30))).isTrue();
+            assertThat(after.isRevoked(claims(1L, "jti-2", 0, 30))).isFalse();
+        } finally {
+            after.shutdown();
+        }
+    }
+
+    private Claims claims(Long userId, String tokenId, long issuedAtOffsetSeconds, long expirationOffsetMinutes) {
+        long now = System.currentTimeMillis();
+        Claims claims = Jwts.claims();
+        claims.setSubject(String.valueOf(userId));
+        claims.setId(tokenId);
+        claims.setIssuedAt(new Date(now + issuedAtOffsetSeconds * 1000L));
+        claims.setExpiration(new Date(now + expirationOffsetMinutes * 60_000L));
+        return claims;
+    }
+}